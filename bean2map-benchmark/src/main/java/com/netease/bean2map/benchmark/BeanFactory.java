@@ -0,0 +1,50 @@
+package com.netease.bean2map.benchmark;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.Date;
+
+/**
+ * 为基准测试模型填充样本数据
+ */
+public final class BeanFactory {
+    private BeanFactory() {
+    }
+
+    public static <T> T create(Class<T> clazz) {
+        try {
+            T bean = clazz.getDeclaredConstructor().newInstance();
+            BeanInfo beanInfo = Introspector.getBeanInfo(clazz, Object.class);
+            int i = 0;
+            for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+                Method setter = descriptor.getWriteMethod();
+                if (setter != null) {
+                    setter.invoke(bean, sample(descriptor.getPropertyType(), i++));
+                }
+            }
+            return bean;
+        } catch (IntrospectionException | ReflectiveOperationException e) {
+            throw new IllegalStateException("can not create sample bean:" + clazz.getName(), e);
+        }
+    }
+
+    private static Object sample(Class<?> type, int i) {
+        if (type == long.class || type == Long.class) {
+            return 1000000L + i;
+        } else if (type == int.class || type == Integer.class) {
+            return i;
+        } else if (type == double.class || type == Double.class) {
+            return i + 0.5d;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return i % 2 == 0;
+        } else if (type == Date.class) {
+            return new Date(1600000000000L + i * 1000L);
+        } else if (type == String.class) {
+            return "value-" + i;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,102 @@
+package com.netease.bean2map.benchmark;
+
+import com.netease.bean2map.benchmark.model.Bean300;
+import com.netease.bean2map.benchmark.model.Bean5;
+import com.netease.bean2map.benchmark.model.Bean50;
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 生成的codec与反射实现的code/decode/filter吞吐对比
+ * <p>
+ * 分配速率可通过 {@code -prof gc} 查看
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecBenchmark {
+    @Param({"5", "50", "300"})
+    public int properties;
+
+    private IMapCodec<Object> codec;
+    private ReflectionMapper<Object> reflection;
+    private Object bean;
+    private Map<String, Object> decodeMap;
+    private Map<String, Object> dirtyMap;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Class<?> clazz;
+        switch (properties) {
+            case 5:
+                clazz = Bean5.class;
+                break;
+            case 50:
+                clazz = Bean50.class;
+                break;
+            case 300:
+                clazz = Bean300.class;
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported properties:" + properties);
+        }
+        codec = (IMapCodec<Object>) MapCodecRegister.getCodec(clazz);
+        reflection = new ReflectionMapper<>((Class<Object>) clazz);
+        bean = BeanFactory.create(clazz);
+        // 两种实现解码同一份原始类型的map，codec的格式化日期解析不计入对比
+        decodeMap = reflection.code(bean);
+        dirtyMap = new HashMap<>(codec.code(bean));
+        for (int i = 0; i < 10; i++) {
+            dirtyMap.put("unknown" + i, i);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> code() {
+        return codec.code(bean);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.decode(decodeMap);
+    }
+
+    @Benchmark
+    public Map<String, Object> filter() {
+        return codec.filter(dirtyMap);
+    }
+
+    @Benchmark
+    public Map<String, Object> reflectionCode() {
+        return reflection.code(bean);
+    }
+
+    @Benchmark
+    public Object reflectionDecode() {
+        return reflection.decode(decodeMap);
+    }
+
+    @Benchmark
+    public Map<String, Object> reflectionFilter() {
+        return reflection.filter(dirtyMap);
+    }
+}
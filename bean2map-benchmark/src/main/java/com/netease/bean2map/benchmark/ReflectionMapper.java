@@ -0,0 +1,88 @@
+package com.netease.bean2map.benchmark;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于{@link Introspector}的反射实现，作为生成代码的对照组
+ */
+public final class ReflectionMapper<T> {
+    private final Class<T> clazz;
+    private final String[] names;
+    private final Method[] getters;
+    private final Method[] setters;
+
+    public ReflectionMapper(Class<T> clazz) {
+        this.clazz = clazz;
+        try {
+            BeanInfo beanInfo = Introspector.getBeanInfo(clazz, Object.class);
+            List<PropertyDescriptor> descriptors = new ArrayList<>();
+            for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+                if (descriptor.getReadMethod() != null && descriptor.getWriteMethod() != null) {
+                    descriptors.add(descriptor);
+                }
+            }
+            this.names = new String[descriptors.size()];
+            this.getters = new Method[descriptors.size()];
+            this.setters = new Method[descriptors.size()];
+            for (int i = 0; i < descriptors.size(); i++) {
+                names[i] = descriptors.get(i).getName();
+                getters[i] = descriptors.get(i).getReadMethod();
+                setters[i] = descriptors.get(i).getWriteMethod();
+            }
+        } catch (IntrospectionException e) {
+            throw new IllegalStateException("can not introspect:" + clazz.getName(), e);
+        }
+    }
+
+    public Map<String, Object> code(T entity) {
+        Map<String, Object> map = new HashMap<>();
+        try {
+            for (int i = 0; i < getters.length; i++) {
+                Object value = getters[i].invoke(entity);
+                if (value != null) {
+                    map.put(names[i], value);
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        return map;
+    }
+
+    public T decode(Map<String, Object> map) {
+        try {
+            T entity = clazz.getDeclaredConstructor().newInstance();
+            for (int i = 0; i < setters.length; i++) {
+                Object value = map.get(names[i]);
+                if (value != null) {
+                    setters[i].invoke(entity, value);
+                }
+            }
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 只保留javabean中存在的属性，值不做转换
+     */
+    public Map<String, Object> filter(Map<String, Object> map) {
+        Map<String, Object> result = new HashMap<>();
+        for (String name : names) {
+            Object value = map.get(name);
+            if (value != null) {
+                result.put(name, value);
+            }
+        }
+        return result;
+    }
+}
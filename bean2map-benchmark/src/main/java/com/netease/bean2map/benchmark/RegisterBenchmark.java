@@ -0,0 +1,58 @@
+package com.netease.bean2map.benchmark;
+
+import com.netease.bean2map.benchmark.model.Bean300;
+import com.netease.bean2map.benchmark.model.Bean5;
+import com.netease.bean2map.benchmark.model.Bean50;
+import com.netease.bean2map.codec.MapCodecRegister;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MapCodecRegister#getCodec(Class)}在不同线程数下的查找吞吐
+ * <p>
+ * 其他线程数可通过 {@code -t} 参数指定
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegisterBenchmark {
+    private final Class<?>[] classes = {Bean5.class, Bean50.class, Bean300.class};
+
+    private void lookup(Blackhole blackhole) {
+        for (Class<?> clazz : classes) {
+            blackhole.consume(MapCodecRegister.getCodec(clazz));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void getCodec1(Blackhole blackhole) {
+        lookup(blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void getCodec4(Blackhole blackhole) {
+        lookup(blackhole);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void getCodecMax(Blackhole blackhole) {
+        lookup(blackhole);
+    }
+}
@@ -0,0 +1,2738 @@
+package com.netease.bean2map.benchmark.model;
+
+import com.netease.bean2map.codec.DateFormat;
+import com.netease.bean2map.codec.MapCodec;
+
+import java.util.Date;
+
+/**
+ * 300个属性的基准测试模型
+ */
+@MapCodec
+public class Bean300 {
+    private Long long0;
+    private String string1;
+    private Integer int2;
+    private Double double3;
+    private Boolean bool4;
+    @DateFormat
+    private Date date5;
+    private Long long6;
+    private String string7;
+    private Integer int8;
+    private Double double9;
+    private Boolean bool10;
+    private Date date11;
+    private Long long12;
+    private String string13;
+    private Integer int14;
+    private Double double15;
+    private Boolean bool16;
+    @DateFormat
+    private Date date17;
+    private Long long18;
+    private String string19;
+    private Integer int20;
+    private Double double21;
+    private Boolean bool22;
+    private Date date23;
+    private Long long24;
+    private String string25;
+    private Integer int26;
+    private Double double27;
+    private Boolean bool28;
+    @DateFormat
+    private Date date29;
+    private Long long30;
+    private String string31;
+    private Integer int32;
+    private Double double33;
+    private Boolean bool34;
+    private Date date35;
+    private Long long36;
+    private String string37;
+    private Integer int38;
+    private Double double39;
+    private Boolean bool40;
+    @DateFormat
+    private Date date41;
+    private Long long42;
+    private String string43;
+    private Integer int44;
+    private Double double45;
+    private Boolean bool46;
+    private Date date47;
+    private Long long48;
+    private String string49;
+    private Integer int50;
+    private Double double51;
+    private Boolean bool52;
+    @DateFormat
+    private Date date53;
+    private Long long54;
+    private String string55;
+    private Integer int56;
+    private Double double57;
+    private Boolean bool58;
+    private Date date59;
+    private Long long60;
+    private String string61;
+    private Integer int62;
+    private Double double63;
+    private Boolean bool64;
+    @DateFormat
+    private Date date65;
+    private Long long66;
+    private String string67;
+    private Integer int68;
+    private Double double69;
+    private Boolean bool70;
+    private Date date71;
+    private Long long72;
+    private String string73;
+    private Integer int74;
+    private Double double75;
+    private Boolean bool76;
+    @DateFormat
+    private Date date77;
+    private Long long78;
+    private String string79;
+    private Integer int80;
+    private Double double81;
+    private Boolean bool82;
+    private Date date83;
+    private Long long84;
+    private String string85;
+    private Integer int86;
+    private Double double87;
+    private Boolean bool88;
+    @DateFormat
+    private Date date89;
+    private Long long90;
+    private String string91;
+    private Integer int92;
+    private Double double93;
+    private Boolean bool94;
+    private Date date95;
+    private Long long96;
+    private String string97;
+    private Integer int98;
+    private Double double99;
+    private Boolean bool100;
+    @DateFormat
+    private Date date101;
+    private Long long102;
+    private String string103;
+    private Integer int104;
+    private Double double105;
+    private Boolean bool106;
+    private Date date107;
+    private Long long108;
+    private String string109;
+    private Integer int110;
+    private Double double111;
+    private Boolean bool112;
+    @DateFormat
+    private Date date113;
+    private Long long114;
+    private String string115;
+    private Integer int116;
+    private Double double117;
+    private Boolean bool118;
+    private Date date119;
+    private Long long120;
+    private String string121;
+    private Integer int122;
+    private Double double123;
+    private Boolean bool124;
+    @DateFormat
+    private Date date125;
+    private Long long126;
+    private String string127;
+    private Integer int128;
+    private Double double129;
+    private Boolean bool130;
+    private Date date131;
+    private Long long132;
+    private String string133;
+    private Integer int134;
+    private Double double135;
+    private Boolean bool136;
+    @DateFormat
+    private Date date137;
+    private Long long138;
+    private String string139;
+    private Integer int140;
+    private Double double141;
+    private Boolean bool142;
+    private Date date143;
+    private Long long144;
+    private String string145;
+    private Integer int146;
+    private Double double147;
+    private Boolean bool148;
+    @DateFormat
+    private Date date149;
+    private Long long150;
+    private String string151;
+    private Integer int152;
+    private Double double153;
+    private Boolean bool154;
+    private Date date155;
+    private Long long156;
+    private String string157;
+    private Integer int158;
+    private Double double159;
+    private Boolean bool160;
+    @DateFormat
+    private Date date161;
+    private Long long162;
+    private String string163;
+    private Integer int164;
+    private Double double165;
+    private Boolean bool166;
+    private Date date167;
+    private Long long168;
+    private String string169;
+    private Integer int170;
+    private Double double171;
+    private Boolean bool172;
+    @DateFormat
+    private Date date173;
+    private Long long174;
+    private String string175;
+    private Integer int176;
+    private Double double177;
+    private Boolean bool178;
+    private Date date179;
+    private Long long180;
+    private String string181;
+    private Integer int182;
+    private Double double183;
+    private Boolean bool184;
+    @DateFormat
+    private Date date185;
+    private Long long186;
+    private String string187;
+    private Integer int188;
+    private Double double189;
+    private Boolean bool190;
+    private Date date191;
+    private Long long192;
+    private String string193;
+    private Integer int194;
+    private Double double195;
+    private Boolean bool196;
+    @DateFormat
+    private Date date197;
+    private Long long198;
+    private String string199;
+    private Integer int200;
+    private Double double201;
+    private Boolean bool202;
+    private Date date203;
+    private Long long204;
+    private String string205;
+    private Integer int206;
+    private Double double207;
+    private Boolean bool208;
+    @DateFormat
+    private Date date209;
+    private Long long210;
+    private String string211;
+    private Integer int212;
+    private Double double213;
+    private Boolean bool214;
+    private Date date215;
+    private Long long216;
+    private String string217;
+    private Integer int218;
+    private Double double219;
+    private Boolean bool220;
+    @DateFormat
+    private Date date221;
+    private Long long222;
+    private String string223;
+    private Integer int224;
+    private Double double225;
+    private Boolean bool226;
+    private Date date227;
+    private Long long228;
+    private String string229;
+    private Integer int230;
+    private Double double231;
+    private Boolean bool232;
+    @DateFormat
+    private Date date233;
+    private Long long234;
+    private String string235;
+    private Integer int236;
+    private Double double237;
+    private Boolean bool238;
+    private Date date239;
+    private Long long240;
+    private String string241;
+    private Integer int242;
+    private Double double243;
+    private Boolean bool244;
+    @DateFormat
+    private Date date245;
+    private Long long246;
+    private String string247;
+    private Integer int248;
+    private Double double249;
+    private Boolean bool250;
+    private Date date251;
+    private Long long252;
+    private String string253;
+    private Integer int254;
+    private Double double255;
+    private Boolean bool256;
+    @DateFormat
+    private Date date257;
+    private Long long258;
+    private String string259;
+    private Integer int260;
+    private Double double261;
+    private Boolean bool262;
+    private Date date263;
+    private Long long264;
+    private String string265;
+    private Integer int266;
+    private Double double267;
+    private Boolean bool268;
+    @DateFormat
+    private Date date269;
+    private Long long270;
+    private String string271;
+    private Integer int272;
+    private Double double273;
+    private Boolean bool274;
+    private Date date275;
+    private Long long276;
+    private String string277;
+    private Integer int278;
+    private Double double279;
+    private Boolean bool280;
+    @DateFormat
+    private Date date281;
+    private Long long282;
+    private String string283;
+    private Integer int284;
+    private Double double285;
+    private Boolean bool286;
+    private Date date287;
+    private Long long288;
+    private String string289;
+    private Integer int290;
+    private Double double291;
+    private Boolean bool292;
+    @DateFormat
+    private Date date293;
+    private Long long294;
+    private String string295;
+    private Integer int296;
+    private Double double297;
+    private Boolean bool298;
+    private Date date299;
+
+    public Long getLong0() {
+        return long0;
+    }
+
+    public void setLong0(Long long0) {
+        this.long0 = long0;
+    }
+
+    public String getString1() {
+        return string1;
+    }
+
+    public void setString1(String string1) {
+        this.string1 = string1;
+    }
+
+    public Integer getInt2() {
+        return int2;
+    }
+
+    public void setInt2(Integer int2) {
+        this.int2 = int2;
+    }
+
+    public Double getDouble3() {
+        return double3;
+    }
+
+    public void setDouble3(Double double3) {
+        this.double3 = double3;
+    }
+
+    public Boolean getBool4() {
+        return bool4;
+    }
+
+    public void setBool4(Boolean bool4) {
+        this.bool4 = bool4;
+    }
+
+    public Date getDate5() {
+        return date5;
+    }
+
+    public void setDate5(Date date5) {
+        this.date5 = date5;
+    }
+
+    public Long getLong6() {
+        return long6;
+    }
+
+    public void setLong6(Long long6) {
+        this.long6 = long6;
+    }
+
+    public String getString7() {
+        return string7;
+    }
+
+    public void setString7(String string7) {
+        this.string7 = string7;
+    }
+
+    public Integer getInt8() {
+        return int8;
+    }
+
+    public void setInt8(Integer int8) {
+        this.int8 = int8;
+    }
+
+    public Double getDouble9() {
+        return double9;
+    }
+
+    public void setDouble9(Double double9) {
+        this.double9 = double9;
+    }
+
+    public Boolean getBool10() {
+        return bool10;
+    }
+
+    public void setBool10(Boolean bool10) {
+        this.bool10 = bool10;
+    }
+
+    public Date getDate11() {
+        return date11;
+    }
+
+    public void setDate11(Date date11) {
+        this.date11 = date11;
+    }
+
+    public Long getLong12() {
+        return long12;
+    }
+
+    public void setLong12(Long long12) {
+        this.long12 = long12;
+    }
+
+    public String getString13() {
+        return string13;
+    }
+
+    public void setString13(String string13) {
+        this.string13 = string13;
+    }
+
+    public Integer getInt14() {
+        return int14;
+    }
+
+    public void setInt14(Integer int14) {
+        this.int14 = int14;
+    }
+
+    public Double getDouble15() {
+        return double15;
+    }
+
+    public void setDouble15(Double double15) {
+        this.double15 = double15;
+    }
+
+    public Boolean getBool16() {
+        return bool16;
+    }
+
+    public void setBool16(Boolean bool16) {
+        this.bool16 = bool16;
+    }
+
+    public Date getDate17() {
+        return date17;
+    }
+
+    public void setDate17(Date date17) {
+        this.date17 = date17;
+    }
+
+    public Long getLong18() {
+        return long18;
+    }
+
+    public void setLong18(Long long18) {
+        this.long18 = long18;
+    }
+
+    public String getString19() {
+        return string19;
+    }
+
+    public void setString19(String string19) {
+        this.string19 = string19;
+    }
+
+    public Integer getInt20() {
+        return int20;
+    }
+
+    public void setInt20(Integer int20) {
+        this.int20 = int20;
+    }
+
+    public Double getDouble21() {
+        return double21;
+    }
+
+    public void setDouble21(Double double21) {
+        this.double21 = double21;
+    }
+
+    public Boolean getBool22() {
+        return bool22;
+    }
+
+    public void setBool22(Boolean bool22) {
+        this.bool22 = bool22;
+    }
+
+    public Date getDate23() {
+        return date23;
+    }
+
+    public void setDate23(Date date23) {
+        this.date23 = date23;
+    }
+
+    public Long getLong24() {
+        return long24;
+    }
+
+    public void setLong24(Long long24) {
+        this.long24 = long24;
+    }
+
+    public String getString25() {
+        return string25;
+    }
+
+    public void setString25(String string25) {
+        this.string25 = string25;
+    }
+
+    public Integer getInt26() {
+        return int26;
+    }
+
+    public void setInt26(Integer int26) {
+        this.int26 = int26;
+    }
+
+    public Double getDouble27() {
+        return double27;
+    }
+
+    public void setDouble27(Double double27) {
+        this.double27 = double27;
+    }
+
+    public Boolean getBool28() {
+        return bool28;
+    }
+
+    public void setBool28(Boolean bool28) {
+        this.bool28 = bool28;
+    }
+
+    public Date getDate29() {
+        return date29;
+    }
+
+    public void setDate29(Date date29) {
+        this.date29 = date29;
+    }
+
+    public Long getLong30() {
+        return long30;
+    }
+
+    public void setLong30(Long long30) {
+        this.long30 = long30;
+    }
+
+    public String getString31() {
+        return string31;
+    }
+
+    public void setString31(String string31) {
+        this.string31 = string31;
+    }
+
+    public Integer getInt32() {
+        return int32;
+    }
+
+    public void setInt32(Integer int32) {
+        this.int32 = int32;
+    }
+
+    public Double getDouble33() {
+        return double33;
+    }
+
+    public void setDouble33(Double double33) {
+        this.double33 = double33;
+    }
+
+    public Boolean getBool34() {
+        return bool34;
+    }
+
+    public void setBool34(Boolean bool34) {
+        this.bool34 = bool34;
+    }
+
+    public Date getDate35() {
+        return date35;
+    }
+
+    public void setDate35(Date date35) {
+        this.date35 = date35;
+    }
+
+    public Long getLong36() {
+        return long36;
+    }
+
+    public void setLong36(Long long36) {
+        this.long36 = long36;
+    }
+
+    public String getString37() {
+        return string37;
+    }
+
+    public void setString37(String string37) {
+        this.string37 = string37;
+    }
+
+    public Integer getInt38() {
+        return int38;
+    }
+
+    public void setInt38(Integer int38) {
+        this.int38 = int38;
+    }
+
+    public Double getDouble39() {
+        return double39;
+    }
+
+    public void setDouble39(Double double39) {
+        this.double39 = double39;
+    }
+
+    public Boolean getBool40() {
+        return bool40;
+    }
+
+    public void setBool40(Boolean bool40) {
+        this.bool40 = bool40;
+    }
+
+    public Date getDate41() {
+        return date41;
+    }
+
+    public void setDate41(Date date41) {
+        this.date41 = date41;
+    }
+
+    public Long getLong42() {
+        return long42;
+    }
+
+    public void setLong42(Long long42) {
+        this.long42 = long42;
+    }
+
+    public String getString43() {
+        return string43;
+    }
+
+    public void setString43(String string43) {
+        this.string43 = string43;
+    }
+
+    public Integer getInt44() {
+        return int44;
+    }
+
+    public void setInt44(Integer int44) {
+        this.int44 = int44;
+    }
+
+    public Double getDouble45() {
+        return double45;
+    }
+
+    public void setDouble45(Double double45) {
+        this.double45 = double45;
+    }
+
+    public Boolean getBool46() {
+        return bool46;
+    }
+
+    public void setBool46(Boolean bool46) {
+        this.bool46 = bool46;
+    }
+
+    public Date getDate47() {
+        return date47;
+    }
+
+    public void setDate47(Date date47) {
+        this.date47 = date47;
+    }
+
+    public Long getLong48() {
+        return long48;
+    }
+
+    public void setLong48(Long long48) {
+        this.long48 = long48;
+    }
+
+    public String getString49() {
+        return string49;
+    }
+
+    public void setString49(String string49) {
+        this.string49 = string49;
+    }
+
+    public Integer getInt50() {
+        return int50;
+    }
+
+    public void setInt50(Integer int50) {
+        this.int50 = int50;
+    }
+
+    public Double getDouble51() {
+        return double51;
+    }
+
+    public void setDouble51(Double double51) {
+        this.double51 = double51;
+    }
+
+    public Boolean getBool52() {
+        return bool52;
+    }
+
+    public void setBool52(Boolean bool52) {
+        this.bool52 = bool52;
+    }
+
+    public Date getDate53() {
+        return date53;
+    }
+
+    public void setDate53(Date date53) {
+        this.date53 = date53;
+    }
+
+    public Long getLong54() {
+        return long54;
+    }
+
+    public void setLong54(Long long54) {
+        this.long54 = long54;
+    }
+
+    public String getString55() {
+        return string55;
+    }
+
+    public void setString55(String string55) {
+        this.string55 = string55;
+    }
+
+    public Integer getInt56() {
+        return int56;
+    }
+
+    public void setInt56(Integer int56) {
+        this.int56 = int56;
+    }
+
+    public Double getDouble57() {
+        return double57;
+    }
+
+    public void setDouble57(Double double57) {
+        this.double57 = double57;
+    }
+
+    public Boolean getBool58() {
+        return bool58;
+    }
+
+    public void setBool58(Boolean bool58) {
+        this.bool58 = bool58;
+    }
+
+    public Date getDate59() {
+        return date59;
+    }
+
+    public void setDate59(Date date59) {
+        this.date59 = date59;
+    }
+
+    public Long getLong60() {
+        return long60;
+    }
+
+    public void setLong60(Long long60) {
+        this.long60 = long60;
+    }
+
+    public String getString61() {
+        return string61;
+    }
+
+    public void setString61(String string61) {
+        this.string61 = string61;
+    }
+
+    public Integer getInt62() {
+        return int62;
+    }
+
+    public void setInt62(Integer int62) {
+        this.int62 = int62;
+    }
+
+    public Double getDouble63() {
+        return double63;
+    }
+
+    public void setDouble63(Double double63) {
+        this.double63 = double63;
+    }
+
+    public Boolean getBool64() {
+        return bool64;
+    }
+
+    public void setBool64(Boolean bool64) {
+        this.bool64 = bool64;
+    }
+
+    public Date getDate65() {
+        return date65;
+    }
+
+    public void setDate65(Date date65) {
+        this.date65 = date65;
+    }
+
+    public Long getLong66() {
+        return long66;
+    }
+
+    public void setLong66(Long long66) {
+        this.long66 = long66;
+    }
+
+    public String getString67() {
+        return string67;
+    }
+
+    public void setString67(String string67) {
+        this.string67 = string67;
+    }
+
+    public Integer getInt68() {
+        return int68;
+    }
+
+    public void setInt68(Integer int68) {
+        this.int68 = int68;
+    }
+
+    public Double getDouble69() {
+        return double69;
+    }
+
+    public void setDouble69(Double double69) {
+        this.double69 = double69;
+    }
+
+    public Boolean getBool70() {
+        return bool70;
+    }
+
+    public void setBool70(Boolean bool70) {
+        this.bool70 = bool70;
+    }
+
+    public Date getDate71() {
+        return date71;
+    }
+
+    public void setDate71(Date date71) {
+        this.date71 = date71;
+    }
+
+    public Long getLong72() {
+        return long72;
+    }
+
+    public void setLong72(Long long72) {
+        this.long72 = long72;
+    }
+
+    public String getString73() {
+        return string73;
+    }
+
+    public void setString73(String string73) {
+        this.string73 = string73;
+    }
+
+    public Integer getInt74() {
+        return int74;
+    }
+
+    public void setInt74(Integer int74) {
+        this.int74 = int74;
+    }
+
+    public Double getDouble75() {
+        return double75;
+    }
+
+    public void setDouble75(Double double75) {
+        this.double75 = double75;
+    }
+
+    public Boolean getBool76() {
+        return bool76;
+    }
+
+    public void setBool76(Boolean bool76) {
+        this.bool76 = bool76;
+    }
+
+    public Date getDate77() {
+        return date77;
+    }
+
+    public void setDate77(Date date77) {
+        this.date77 = date77;
+    }
+
+    public Long getLong78() {
+        return long78;
+    }
+
+    public void setLong78(Long long78) {
+        this.long78 = long78;
+    }
+
+    public String getString79() {
+        return string79;
+    }
+
+    public void setString79(String string79) {
+        this.string79 = string79;
+    }
+
+    public Integer getInt80() {
+        return int80;
+    }
+
+    public void setInt80(Integer int80) {
+        this.int80 = int80;
+    }
+
+    public Double getDouble81() {
+        return double81;
+    }
+
+    public void setDouble81(Double double81) {
+        this.double81 = double81;
+    }
+
+    public Boolean getBool82() {
+        return bool82;
+    }
+
+    public void setBool82(Boolean bool82) {
+        this.bool82 = bool82;
+    }
+
+    public Date getDate83() {
+        return date83;
+    }
+
+    public void setDate83(Date date83) {
+        this.date83 = date83;
+    }
+
+    public Long getLong84() {
+        return long84;
+    }
+
+    public void setLong84(Long long84) {
+        this.long84 = long84;
+    }
+
+    public String getString85() {
+        return string85;
+    }
+
+    public void setString85(String string85) {
+        this.string85 = string85;
+    }
+
+    public Integer getInt86() {
+        return int86;
+    }
+
+    public void setInt86(Integer int86) {
+        this.int86 = int86;
+    }
+
+    public Double getDouble87() {
+        return double87;
+    }
+
+    public void setDouble87(Double double87) {
+        this.double87 = double87;
+    }
+
+    public Boolean getBool88() {
+        return bool88;
+    }
+
+    public void setBool88(Boolean bool88) {
+        this.bool88 = bool88;
+    }
+
+    public Date getDate89() {
+        return date89;
+    }
+
+    public void setDate89(Date date89) {
+        this.date89 = date89;
+    }
+
+    public Long getLong90() {
+        return long90;
+    }
+
+    public void setLong90(Long long90) {
+        this.long90 = long90;
+    }
+
+    public String getString91() {
+        return string91;
+    }
+
+    public void setString91(String string91) {
+        this.string91 = string91;
+    }
+
+    public Integer getInt92() {
+        return int92;
+    }
+
+    public void setInt92(Integer int92) {
+        this.int92 = int92;
+    }
+
+    public Double getDouble93() {
+        return double93;
+    }
+
+    public void setDouble93(Double double93) {
+        this.double93 = double93;
+    }
+
+    public Boolean getBool94() {
+        return bool94;
+    }
+
+    public void setBool94(Boolean bool94) {
+        this.bool94 = bool94;
+    }
+
+    public Date getDate95() {
+        return date95;
+    }
+
+    public void setDate95(Date date95) {
+        this.date95 = date95;
+    }
+
+    public Long getLong96() {
+        return long96;
+    }
+
+    public void setLong96(Long long96) {
+        this.long96 = long96;
+    }
+
+    public String getString97() {
+        return string97;
+    }
+
+    public void setString97(String string97) {
+        this.string97 = string97;
+    }
+
+    public Integer getInt98() {
+        return int98;
+    }
+
+    public void setInt98(Integer int98) {
+        this.int98 = int98;
+    }
+
+    public Double getDouble99() {
+        return double99;
+    }
+
+    public void setDouble99(Double double99) {
+        this.double99 = double99;
+    }
+
+    public Boolean getBool100() {
+        return bool100;
+    }
+
+    public void setBool100(Boolean bool100) {
+        this.bool100 = bool100;
+    }
+
+    public Date getDate101() {
+        return date101;
+    }
+
+    public void setDate101(Date date101) {
+        this.date101 = date101;
+    }
+
+    public Long getLong102() {
+        return long102;
+    }
+
+    public void setLong102(Long long102) {
+        this.long102 = long102;
+    }
+
+    public String getString103() {
+        return string103;
+    }
+
+    public void setString103(String string103) {
+        this.string103 = string103;
+    }
+
+    public Integer getInt104() {
+        return int104;
+    }
+
+    public void setInt104(Integer int104) {
+        this.int104 = int104;
+    }
+
+    public Double getDouble105() {
+        return double105;
+    }
+
+    public void setDouble105(Double double105) {
+        this.double105 = double105;
+    }
+
+    public Boolean getBool106() {
+        return bool106;
+    }
+
+    public void setBool106(Boolean bool106) {
+        this.bool106 = bool106;
+    }
+
+    public Date getDate107() {
+        return date107;
+    }
+
+    public void setDate107(Date date107) {
+        this.date107 = date107;
+    }
+
+    public Long getLong108() {
+        return long108;
+    }
+
+    public void setLong108(Long long108) {
+        this.long108 = long108;
+    }
+
+    public String getString109() {
+        return string109;
+    }
+
+    public void setString109(String string109) {
+        this.string109 = string109;
+    }
+
+    public Integer getInt110() {
+        return int110;
+    }
+
+    public void setInt110(Integer int110) {
+        this.int110 = int110;
+    }
+
+    public Double getDouble111() {
+        return double111;
+    }
+
+    public void setDouble111(Double double111) {
+        this.double111 = double111;
+    }
+
+    public Boolean getBool112() {
+        return bool112;
+    }
+
+    public void setBool112(Boolean bool112) {
+        this.bool112 = bool112;
+    }
+
+    public Date getDate113() {
+        return date113;
+    }
+
+    public void setDate113(Date date113) {
+        this.date113 = date113;
+    }
+
+    public Long getLong114() {
+        return long114;
+    }
+
+    public void setLong114(Long long114) {
+        this.long114 = long114;
+    }
+
+    public String getString115() {
+        return string115;
+    }
+
+    public void setString115(String string115) {
+        this.string115 = string115;
+    }
+
+    public Integer getInt116() {
+        return int116;
+    }
+
+    public void setInt116(Integer int116) {
+        this.int116 = int116;
+    }
+
+    public Double getDouble117() {
+        return double117;
+    }
+
+    public void setDouble117(Double double117) {
+        this.double117 = double117;
+    }
+
+    public Boolean getBool118() {
+        return bool118;
+    }
+
+    public void setBool118(Boolean bool118) {
+        this.bool118 = bool118;
+    }
+
+    public Date getDate119() {
+        return date119;
+    }
+
+    public void setDate119(Date date119) {
+        this.date119 = date119;
+    }
+
+    public Long getLong120() {
+        return long120;
+    }
+
+    public void setLong120(Long long120) {
+        this.long120 = long120;
+    }
+
+    public String getString121() {
+        return string121;
+    }
+
+    public void setString121(String string121) {
+        this.string121 = string121;
+    }
+
+    public Integer getInt122() {
+        return int122;
+    }
+
+    public void setInt122(Integer int122) {
+        this.int122 = int122;
+    }
+
+    public Double getDouble123() {
+        return double123;
+    }
+
+    public void setDouble123(Double double123) {
+        this.double123 = double123;
+    }
+
+    public Boolean getBool124() {
+        return bool124;
+    }
+
+    public void setBool124(Boolean bool124) {
+        this.bool124 = bool124;
+    }
+
+    public Date getDate125() {
+        return date125;
+    }
+
+    public void setDate125(Date date125) {
+        this.date125 = date125;
+    }
+
+    public Long getLong126() {
+        return long126;
+    }
+
+    public void setLong126(Long long126) {
+        this.long126 = long126;
+    }
+
+    public String getString127() {
+        return string127;
+    }
+
+    public void setString127(String string127) {
+        this.string127 = string127;
+    }
+
+    public Integer getInt128() {
+        return int128;
+    }
+
+    public void setInt128(Integer int128) {
+        this.int128 = int128;
+    }
+
+    public Double getDouble129() {
+        return double129;
+    }
+
+    public void setDouble129(Double double129) {
+        this.double129 = double129;
+    }
+
+    public Boolean getBool130() {
+        return bool130;
+    }
+
+    public void setBool130(Boolean bool130) {
+        this.bool130 = bool130;
+    }
+
+    public Date getDate131() {
+        return date131;
+    }
+
+    public void setDate131(Date date131) {
+        this.date131 = date131;
+    }
+
+    public Long getLong132() {
+        return long132;
+    }
+
+    public void setLong132(Long long132) {
+        this.long132 = long132;
+    }
+
+    public String getString133() {
+        return string133;
+    }
+
+    public void setString133(String string133) {
+        this.string133 = string133;
+    }
+
+    public Integer getInt134() {
+        return int134;
+    }
+
+    public void setInt134(Integer int134) {
+        this.int134 = int134;
+    }
+
+    public Double getDouble135() {
+        return double135;
+    }
+
+    public void setDouble135(Double double135) {
+        this.double135 = double135;
+    }
+
+    public Boolean getBool136() {
+        return bool136;
+    }
+
+    public void setBool136(Boolean bool136) {
+        this.bool136 = bool136;
+    }
+
+    public Date getDate137() {
+        return date137;
+    }
+
+    public void setDate137(Date date137) {
+        this.date137 = date137;
+    }
+
+    public Long getLong138() {
+        return long138;
+    }
+
+    public void setLong138(Long long138) {
+        this.long138 = long138;
+    }
+
+    public String getString139() {
+        return string139;
+    }
+
+    public void setString139(String string139) {
+        this.string139 = string139;
+    }
+
+    public Integer getInt140() {
+        return int140;
+    }
+
+    public void setInt140(Integer int140) {
+        this.int140 = int140;
+    }
+
+    public Double getDouble141() {
+        return double141;
+    }
+
+    public void setDouble141(Double double141) {
+        this.double141 = double141;
+    }
+
+    public Boolean getBool142() {
+        return bool142;
+    }
+
+    public void setBool142(Boolean bool142) {
+        this.bool142 = bool142;
+    }
+
+    public Date getDate143() {
+        return date143;
+    }
+
+    public void setDate143(Date date143) {
+        this.date143 = date143;
+    }
+
+    public Long getLong144() {
+        return long144;
+    }
+
+    public void setLong144(Long long144) {
+        this.long144 = long144;
+    }
+
+    public String getString145() {
+        return string145;
+    }
+
+    public void setString145(String string145) {
+        this.string145 = string145;
+    }
+
+    public Integer getInt146() {
+        return int146;
+    }
+
+    public void setInt146(Integer int146) {
+        this.int146 = int146;
+    }
+
+    public Double getDouble147() {
+        return double147;
+    }
+
+    public void setDouble147(Double double147) {
+        this.double147 = double147;
+    }
+
+    public Boolean getBool148() {
+        return bool148;
+    }
+
+    public void setBool148(Boolean bool148) {
+        this.bool148 = bool148;
+    }
+
+    public Date getDate149() {
+        return date149;
+    }
+
+    public void setDate149(Date date149) {
+        this.date149 = date149;
+    }
+
+    public Long getLong150() {
+        return long150;
+    }
+
+    public void setLong150(Long long150) {
+        this.long150 = long150;
+    }
+
+    public String getString151() {
+        return string151;
+    }
+
+    public void setString151(String string151) {
+        this.string151 = string151;
+    }
+
+    public Integer getInt152() {
+        return int152;
+    }
+
+    public void setInt152(Integer int152) {
+        this.int152 = int152;
+    }
+
+    public Double getDouble153() {
+        return double153;
+    }
+
+    public void setDouble153(Double double153) {
+        this.double153 = double153;
+    }
+
+    public Boolean getBool154() {
+        return bool154;
+    }
+
+    public void setBool154(Boolean bool154) {
+        this.bool154 = bool154;
+    }
+
+    public Date getDate155() {
+        return date155;
+    }
+
+    public void setDate155(Date date155) {
+        this.date155 = date155;
+    }
+
+    public Long getLong156() {
+        return long156;
+    }
+
+    public void setLong156(Long long156) {
+        this.long156 = long156;
+    }
+
+    public String getString157() {
+        return string157;
+    }
+
+    public void setString157(String string157) {
+        this.string157 = string157;
+    }
+
+    public Integer getInt158() {
+        return int158;
+    }
+
+    public void setInt158(Integer int158) {
+        this.int158 = int158;
+    }
+
+    public Double getDouble159() {
+        return double159;
+    }
+
+    public void setDouble159(Double double159) {
+        this.double159 = double159;
+    }
+
+    public Boolean getBool160() {
+        return bool160;
+    }
+
+    public void setBool160(Boolean bool160) {
+        this.bool160 = bool160;
+    }
+
+    public Date getDate161() {
+        return date161;
+    }
+
+    public void setDate161(Date date161) {
+        this.date161 = date161;
+    }
+
+    public Long getLong162() {
+        return long162;
+    }
+
+    public void setLong162(Long long162) {
+        this.long162 = long162;
+    }
+
+    public String getString163() {
+        return string163;
+    }
+
+    public void setString163(String string163) {
+        this.string163 = string163;
+    }
+
+    public Integer getInt164() {
+        return int164;
+    }
+
+    public void setInt164(Integer int164) {
+        this.int164 = int164;
+    }
+
+    public Double getDouble165() {
+        return double165;
+    }
+
+    public void setDouble165(Double double165) {
+        this.double165 = double165;
+    }
+
+    public Boolean getBool166() {
+        return bool166;
+    }
+
+    public void setBool166(Boolean bool166) {
+        this.bool166 = bool166;
+    }
+
+    public Date getDate167() {
+        return date167;
+    }
+
+    public void setDate167(Date date167) {
+        this.date167 = date167;
+    }
+
+    public Long getLong168() {
+        return long168;
+    }
+
+    public void setLong168(Long long168) {
+        this.long168 = long168;
+    }
+
+    public String getString169() {
+        return string169;
+    }
+
+    public void setString169(String string169) {
+        this.string169 = string169;
+    }
+
+    public Integer getInt170() {
+        return int170;
+    }
+
+    public void setInt170(Integer int170) {
+        this.int170 = int170;
+    }
+
+    public Double getDouble171() {
+        return double171;
+    }
+
+    public void setDouble171(Double double171) {
+        this.double171 = double171;
+    }
+
+    public Boolean getBool172() {
+        return bool172;
+    }
+
+    public void setBool172(Boolean bool172) {
+        this.bool172 = bool172;
+    }
+
+    public Date getDate173() {
+        return date173;
+    }
+
+    public void setDate173(Date date173) {
+        this.date173 = date173;
+    }
+
+    public Long getLong174() {
+        return long174;
+    }
+
+    public void setLong174(Long long174) {
+        this.long174 = long174;
+    }
+
+    public String getString175() {
+        return string175;
+    }
+
+    public void setString175(String string175) {
+        this.string175 = string175;
+    }
+
+    public Integer getInt176() {
+        return int176;
+    }
+
+    public void setInt176(Integer int176) {
+        this.int176 = int176;
+    }
+
+    public Double getDouble177() {
+        return double177;
+    }
+
+    public void setDouble177(Double double177) {
+        this.double177 = double177;
+    }
+
+    public Boolean getBool178() {
+        return bool178;
+    }
+
+    public void setBool178(Boolean bool178) {
+        this.bool178 = bool178;
+    }
+
+    public Date getDate179() {
+        return date179;
+    }
+
+    public void setDate179(Date date179) {
+        this.date179 = date179;
+    }
+
+    public Long getLong180() {
+        return long180;
+    }
+
+    public void setLong180(Long long180) {
+        this.long180 = long180;
+    }
+
+    public String getString181() {
+        return string181;
+    }
+
+    public void setString181(String string181) {
+        this.string181 = string181;
+    }
+
+    public Integer getInt182() {
+        return int182;
+    }
+
+    public void setInt182(Integer int182) {
+        this.int182 = int182;
+    }
+
+    public Double getDouble183() {
+        return double183;
+    }
+
+    public void setDouble183(Double double183) {
+        this.double183 = double183;
+    }
+
+    public Boolean getBool184() {
+        return bool184;
+    }
+
+    public void setBool184(Boolean bool184) {
+        this.bool184 = bool184;
+    }
+
+    public Date getDate185() {
+        return date185;
+    }
+
+    public void setDate185(Date date185) {
+        this.date185 = date185;
+    }
+
+    public Long getLong186() {
+        return long186;
+    }
+
+    public void setLong186(Long long186) {
+        this.long186 = long186;
+    }
+
+    public String getString187() {
+        return string187;
+    }
+
+    public void setString187(String string187) {
+        this.string187 = string187;
+    }
+
+    public Integer getInt188() {
+        return int188;
+    }
+
+    public void setInt188(Integer int188) {
+        this.int188 = int188;
+    }
+
+    public Double getDouble189() {
+        return double189;
+    }
+
+    public void setDouble189(Double double189) {
+        this.double189 = double189;
+    }
+
+    public Boolean getBool190() {
+        return bool190;
+    }
+
+    public void setBool190(Boolean bool190) {
+        this.bool190 = bool190;
+    }
+
+    public Date getDate191() {
+        return date191;
+    }
+
+    public void setDate191(Date date191) {
+        this.date191 = date191;
+    }
+
+    public Long getLong192() {
+        return long192;
+    }
+
+    public void setLong192(Long long192) {
+        this.long192 = long192;
+    }
+
+    public String getString193() {
+        return string193;
+    }
+
+    public void setString193(String string193) {
+        this.string193 = string193;
+    }
+
+    public Integer getInt194() {
+        return int194;
+    }
+
+    public void setInt194(Integer int194) {
+        this.int194 = int194;
+    }
+
+    public Double getDouble195() {
+        return double195;
+    }
+
+    public void setDouble195(Double double195) {
+        this.double195 = double195;
+    }
+
+    public Boolean getBool196() {
+        return bool196;
+    }
+
+    public void setBool196(Boolean bool196) {
+        this.bool196 = bool196;
+    }
+
+    public Date getDate197() {
+        return date197;
+    }
+
+    public void setDate197(Date date197) {
+        this.date197 = date197;
+    }
+
+    public Long getLong198() {
+        return long198;
+    }
+
+    public void setLong198(Long long198) {
+        this.long198 = long198;
+    }
+
+    public String getString199() {
+        return string199;
+    }
+
+    public void setString199(String string199) {
+        this.string199 = string199;
+    }
+
+    public Integer getInt200() {
+        return int200;
+    }
+
+    public void setInt200(Integer int200) {
+        this.int200 = int200;
+    }
+
+    public Double getDouble201() {
+        return double201;
+    }
+
+    public void setDouble201(Double double201) {
+        this.double201 = double201;
+    }
+
+    public Boolean getBool202() {
+        return bool202;
+    }
+
+    public void setBool202(Boolean bool202) {
+        this.bool202 = bool202;
+    }
+
+    public Date getDate203() {
+        return date203;
+    }
+
+    public void setDate203(Date date203) {
+        this.date203 = date203;
+    }
+
+    public Long getLong204() {
+        return long204;
+    }
+
+    public void setLong204(Long long204) {
+        this.long204 = long204;
+    }
+
+    public String getString205() {
+        return string205;
+    }
+
+    public void setString205(String string205) {
+        this.string205 = string205;
+    }
+
+    public Integer getInt206() {
+        return int206;
+    }
+
+    public void setInt206(Integer int206) {
+        this.int206 = int206;
+    }
+
+    public Double getDouble207() {
+        return double207;
+    }
+
+    public void setDouble207(Double double207) {
+        this.double207 = double207;
+    }
+
+    public Boolean getBool208() {
+        return bool208;
+    }
+
+    public void setBool208(Boolean bool208) {
+        this.bool208 = bool208;
+    }
+
+    public Date getDate209() {
+        return date209;
+    }
+
+    public void setDate209(Date date209) {
+        this.date209 = date209;
+    }
+
+    public Long getLong210() {
+        return long210;
+    }
+
+    public void setLong210(Long long210) {
+        this.long210 = long210;
+    }
+
+    public String getString211() {
+        return string211;
+    }
+
+    public void setString211(String string211) {
+        this.string211 = string211;
+    }
+
+    public Integer getInt212() {
+        return int212;
+    }
+
+    public void setInt212(Integer int212) {
+        this.int212 = int212;
+    }
+
+    public Double getDouble213() {
+        return double213;
+    }
+
+    public void setDouble213(Double double213) {
+        this.double213 = double213;
+    }
+
+    public Boolean getBool214() {
+        return bool214;
+    }
+
+    public void setBool214(Boolean bool214) {
+        this.bool214 = bool214;
+    }
+
+    public Date getDate215() {
+        return date215;
+    }
+
+    public void setDate215(Date date215) {
+        this.date215 = date215;
+    }
+
+    public Long getLong216() {
+        return long216;
+    }
+
+    public void setLong216(Long long216) {
+        this.long216 = long216;
+    }
+
+    public String getString217() {
+        return string217;
+    }
+
+    public void setString217(String string217) {
+        this.string217 = string217;
+    }
+
+    public Integer getInt218() {
+        return int218;
+    }
+
+    public void setInt218(Integer int218) {
+        this.int218 = int218;
+    }
+
+    public Double getDouble219() {
+        return double219;
+    }
+
+    public void setDouble219(Double double219) {
+        this.double219 = double219;
+    }
+
+    public Boolean getBool220() {
+        return bool220;
+    }
+
+    public void setBool220(Boolean bool220) {
+        this.bool220 = bool220;
+    }
+
+    public Date getDate221() {
+        return date221;
+    }
+
+    public void setDate221(Date date221) {
+        this.date221 = date221;
+    }
+
+    public Long getLong222() {
+        return long222;
+    }
+
+    public void setLong222(Long long222) {
+        this.long222 = long222;
+    }
+
+    public String getString223() {
+        return string223;
+    }
+
+    public void setString223(String string223) {
+        this.string223 = string223;
+    }
+
+    public Integer getInt224() {
+        return int224;
+    }
+
+    public void setInt224(Integer int224) {
+        this.int224 = int224;
+    }
+
+    public Double getDouble225() {
+        return double225;
+    }
+
+    public void setDouble225(Double double225) {
+        this.double225 = double225;
+    }
+
+    public Boolean getBool226() {
+        return bool226;
+    }
+
+    public void setBool226(Boolean bool226) {
+        this.bool226 = bool226;
+    }
+
+    public Date getDate227() {
+        return date227;
+    }
+
+    public void setDate227(Date date227) {
+        this.date227 = date227;
+    }
+
+    public Long getLong228() {
+        return long228;
+    }
+
+    public void setLong228(Long long228) {
+        this.long228 = long228;
+    }
+
+    public String getString229() {
+        return string229;
+    }
+
+    public void setString229(String string229) {
+        this.string229 = string229;
+    }
+
+    public Integer getInt230() {
+        return int230;
+    }
+
+    public void setInt230(Integer int230) {
+        this.int230 = int230;
+    }
+
+    public Double getDouble231() {
+        return double231;
+    }
+
+    public void setDouble231(Double double231) {
+        this.double231 = double231;
+    }
+
+    public Boolean getBool232() {
+        return bool232;
+    }
+
+    public void setBool232(Boolean bool232) {
+        this.bool232 = bool232;
+    }
+
+    public Date getDate233() {
+        return date233;
+    }
+
+    public void setDate233(Date date233) {
+        this.date233 = date233;
+    }
+
+    public Long getLong234() {
+        return long234;
+    }
+
+    public void setLong234(Long long234) {
+        this.long234 = long234;
+    }
+
+    public String getString235() {
+        return string235;
+    }
+
+    public void setString235(String string235) {
+        this.string235 = string235;
+    }
+
+    public Integer getInt236() {
+        return int236;
+    }
+
+    public void setInt236(Integer int236) {
+        this.int236 = int236;
+    }
+
+    public Double getDouble237() {
+        return double237;
+    }
+
+    public void setDouble237(Double double237) {
+        this.double237 = double237;
+    }
+
+    public Boolean getBool238() {
+        return bool238;
+    }
+
+    public void setBool238(Boolean bool238) {
+        this.bool238 = bool238;
+    }
+
+    public Date getDate239() {
+        return date239;
+    }
+
+    public void setDate239(Date date239) {
+        this.date239 = date239;
+    }
+
+    public Long getLong240() {
+        return long240;
+    }
+
+    public void setLong240(Long long240) {
+        this.long240 = long240;
+    }
+
+    public String getString241() {
+        return string241;
+    }
+
+    public void setString241(String string241) {
+        this.string241 = string241;
+    }
+
+    public Integer getInt242() {
+        return int242;
+    }
+
+    public void setInt242(Integer int242) {
+        this.int242 = int242;
+    }
+
+    public Double getDouble243() {
+        return double243;
+    }
+
+    public void setDouble243(Double double243) {
+        this.double243 = double243;
+    }
+
+    public Boolean getBool244() {
+        return bool244;
+    }
+
+    public void setBool244(Boolean bool244) {
+        this.bool244 = bool244;
+    }
+
+    public Date getDate245() {
+        return date245;
+    }
+
+    public void setDate245(Date date245) {
+        this.date245 = date245;
+    }
+
+    public Long getLong246() {
+        return long246;
+    }
+
+    public void setLong246(Long long246) {
+        this.long246 = long246;
+    }
+
+    public String getString247() {
+        return string247;
+    }
+
+    public void setString247(String string247) {
+        this.string247 = string247;
+    }
+
+    public Integer getInt248() {
+        return int248;
+    }
+
+    public void setInt248(Integer int248) {
+        this.int248 = int248;
+    }
+
+    public Double getDouble249() {
+        return double249;
+    }
+
+    public void setDouble249(Double double249) {
+        this.double249 = double249;
+    }
+
+    public Boolean getBool250() {
+        return bool250;
+    }
+
+    public void setBool250(Boolean bool250) {
+        this.bool250 = bool250;
+    }
+
+    public Date getDate251() {
+        return date251;
+    }
+
+    public void setDate251(Date date251) {
+        this.date251 = date251;
+    }
+
+    public Long getLong252() {
+        return long252;
+    }
+
+    public void setLong252(Long long252) {
+        this.long252 = long252;
+    }
+
+    public String getString253() {
+        return string253;
+    }
+
+    public void setString253(String string253) {
+        this.string253 = string253;
+    }
+
+    public Integer getInt254() {
+        return int254;
+    }
+
+    public void setInt254(Integer int254) {
+        this.int254 = int254;
+    }
+
+    public Double getDouble255() {
+        return double255;
+    }
+
+    public void setDouble255(Double double255) {
+        this.double255 = double255;
+    }
+
+    public Boolean getBool256() {
+        return bool256;
+    }
+
+    public void setBool256(Boolean bool256) {
+        this.bool256 = bool256;
+    }
+
+    public Date getDate257() {
+        return date257;
+    }
+
+    public void setDate257(Date date257) {
+        this.date257 = date257;
+    }
+
+    public Long getLong258() {
+        return long258;
+    }
+
+    public void setLong258(Long long258) {
+        this.long258 = long258;
+    }
+
+    public String getString259() {
+        return string259;
+    }
+
+    public void setString259(String string259) {
+        this.string259 = string259;
+    }
+
+    public Integer getInt260() {
+        return int260;
+    }
+
+    public void setInt260(Integer int260) {
+        this.int260 = int260;
+    }
+
+    public Double getDouble261() {
+        return double261;
+    }
+
+    public void setDouble261(Double double261) {
+        this.double261 = double261;
+    }
+
+    public Boolean getBool262() {
+        return bool262;
+    }
+
+    public void setBool262(Boolean bool262) {
+        this.bool262 = bool262;
+    }
+
+    public Date getDate263() {
+        return date263;
+    }
+
+    public void setDate263(Date date263) {
+        this.date263 = date263;
+    }
+
+    public Long getLong264() {
+        return long264;
+    }
+
+    public void setLong264(Long long264) {
+        this.long264 = long264;
+    }
+
+    public String getString265() {
+        return string265;
+    }
+
+    public void setString265(String string265) {
+        this.string265 = string265;
+    }
+
+    public Integer getInt266() {
+        return int266;
+    }
+
+    public void setInt266(Integer int266) {
+        this.int266 = int266;
+    }
+
+    public Double getDouble267() {
+        return double267;
+    }
+
+    public void setDouble267(Double double267) {
+        this.double267 = double267;
+    }
+
+    public Boolean getBool268() {
+        return bool268;
+    }
+
+    public void setBool268(Boolean bool268) {
+        this.bool268 = bool268;
+    }
+
+    public Date getDate269() {
+        return date269;
+    }
+
+    public void setDate269(Date date269) {
+        this.date269 = date269;
+    }
+
+    public Long getLong270() {
+        return long270;
+    }
+
+    public void setLong270(Long long270) {
+        this.long270 = long270;
+    }
+
+    public String getString271() {
+        return string271;
+    }
+
+    public void setString271(String string271) {
+        this.string271 = string271;
+    }
+
+    public Integer getInt272() {
+        return int272;
+    }
+
+    public void setInt272(Integer int272) {
+        this.int272 = int272;
+    }
+
+    public Double getDouble273() {
+        return double273;
+    }
+
+    public void setDouble273(Double double273) {
+        this.double273 = double273;
+    }
+
+    public Boolean getBool274() {
+        return bool274;
+    }
+
+    public void setBool274(Boolean bool274) {
+        this.bool274 = bool274;
+    }
+
+    public Date getDate275() {
+        return date275;
+    }
+
+    public void setDate275(Date date275) {
+        this.date275 = date275;
+    }
+
+    public Long getLong276() {
+        return long276;
+    }
+
+    public void setLong276(Long long276) {
+        this.long276 = long276;
+    }
+
+    public String getString277() {
+        return string277;
+    }
+
+    public void setString277(String string277) {
+        this.string277 = string277;
+    }
+
+    public Integer getInt278() {
+        return int278;
+    }
+
+    public void setInt278(Integer int278) {
+        this.int278 = int278;
+    }
+
+    public Double getDouble279() {
+        return double279;
+    }
+
+    public void setDouble279(Double double279) {
+        this.double279 = double279;
+    }
+
+    public Boolean getBool280() {
+        return bool280;
+    }
+
+    public void setBool280(Boolean bool280) {
+        this.bool280 = bool280;
+    }
+
+    public Date getDate281() {
+        return date281;
+    }
+
+    public void setDate281(Date date281) {
+        this.date281 = date281;
+    }
+
+    public Long getLong282() {
+        return long282;
+    }
+
+    public void setLong282(Long long282) {
+        this.long282 = long282;
+    }
+
+    public String getString283() {
+        return string283;
+    }
+
+    public void setString283(String string283) {
+        this.string283 = string283;
+    }
+
+    public Integer getInt284() {
+        return int284;
+    }
+
+    public void setInt284(Integer int284) {
+        this.int284 = int284;
+    }
+
+    public Double getDouble285() {
+        return double285;
+    }
+
+    public void setDouble285(Double double285) {
+        this.double285 = double285;
+    }
+
+    public Boolean getBool286() {
+        return bool286;
+    }
+
+    public void setBool286(Boolean bool286) {
+        this.bool286 = bool286;
+    }
+
+    public Date getDate287() {
+        return date287;
+    }
+
+    public void setDate287(Date date287) {
+        this.date287 = date287;
+    }
+
+    public Long getLong288() {
+        return long288;
+    }
+
+    public void setLong288(Long long288) {
+        this.long288 = long288;
+    }
+
+    public String getString289() {
+        return string289;
+    }
+
+    public void setString289(String string289) {
+        this.string289 = string289;
+    }
+
+    public Integer getInt290() {
+        return int290;
+    }
+
+    public void setInt290(Integer int290) {
+        this.int290 = int290;
+    }
+
+    public Double getDouble291() {
+        return double291;
+    }
+
+    public void setDouble291(Double double291) {
+        this.double291 = double291;
+    }
+
+    public Boolean getBool292() {
+        return bool292;
+    }
+
+    public void setBool292(Boolean bool292) {
+        this.bool292 = bool292;
+    }
+
+    public Date getDate293() {
+        return date293;
+    }
+
+    public void setDate293(Date date293) {
+        this.date293 = date293;
+    }
+
+    public Long getLong294() {
+        return long294;
+    }
+
+    public void setLong294(Long long294) {
+        this.long294 = long294;
+    }
+
+    public String getString295() {
+        return string295;
+    }
+
+    public void setString295(String string295) {
+        this.string295 = string295;
+    }
+
+    public Integer getInt296() {
+        return int296;
+    }
+
+    public void setInt296(Integer int296) {
+        this.int296 = int296;
+    }
+
+    public Double getDouble297() {
+        return double297;
+    }
+
+    public void setDouble297(Double double297) {
+        this.double297 = double297;
+    }
+
+    public Boolean getBool298() {
+        return bool298;
+    }
+
+    public void setBool298(Boolean bool298) {
+        this.bool298 = bool298;
+    }
+
+    public Date getDate299() {
+        return date299;
+    }
+
+    public void setDate299(Date date299) {
+        this.date299 = date299;
+    }
+}
@@ -0,0 +1,59 @@
+package com.netease.bean2map.benchmark.model;
+
+import com.netease.bean2map.codec.DateFormat;
+import com.netease.bean2map.codec.MapCodec;
+
+import java.util.Date;
+
+/**
+ * 5个属性的基准测试模型，包含基本类型
+ */
+@MapCodec
+public class Bean5 {
+    private long id;
+    private String name;
+    private boolean valid;
+    private double score;
+    @DateFormat
+    private Date createTime;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+}
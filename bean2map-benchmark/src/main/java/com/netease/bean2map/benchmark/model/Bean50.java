@@ -0,0 +1,467 @@
+package com.netease.bean2map.benchmark.model;
+
+import com.netease.bean2map.codec.DateFormat;
+import com.netease.bean2map.codec.MapCodec;
+
+import java.util.Date;
+
+/**
+ * 50个属性的基准测试模型
+ */
+@MapCodec
+public class Bean50 {
+    private Long long0;
+    private String string1;
+    private Integer int2;
+    private Double double3;
+    private Boolean bool4;
+    @DateFormat
+    private Date date5;
+    private Long long6;
+    private String string7;
+    private Integer int8;
+    private Double double9;
+    private Boolean bool10;
+    private Date date11;
+    private Long long12;
+    private String string13;
+    private Integer int14;
+    private Double double15;
+    private Boolean bool16;
+    @DateFormat
+    private Date date17;
+    private Long long18;
+    private String string19;
+    private Integer int20;
+    private Double double21;
+    private Boolean bool22;
+    private Date date23;
+    private Long long24;
+    private String string25;
+    private Integer int26;
+    private Double double27;
+    private Boolean bool28;
+    @DateFormat
+    private Date date29;
+    private Long long30;
+    private String string31;
+    private Integer int32;
+    private Double double33;
+    private Boolean bool34;
+    private Date date35;
+    private Long long36;
+    private String string37;
+    private Integer int38;
+    private Double double39;
+    private Boolean bool40;
+    @DateFormat
+    private Date date41;
+    private Long long42;
+    private String string43;
+    private Integer int44;
+    private Double double45;
+    private Boolean bool46;
+    private Date date47;
+    private Long long48;
+    private String string49;
+
+    public Long getLong0() {
+        return long0;
+    }
+
+    public void setLong0(Long long0) {
+        this.long0 = long0;
+    }
+
+    public String getString1() {
+        return string1;
+    }
+
+    public void setString1(String string1) {
+        this.string1 = string1;
+    }
+
+    public Integer getInt2() {
+        return int2;
+    }
+
+    public void setInt2(Integer int2) {
+        this.int2 = int2;
+    }
+
+    public Double getDouble3() {
+        return double3;
+    }
+
+    public void setDouble3(Double double3) {
+        this.double3 = double3;
+    }
+
+    public Boolean getBool4() {
+        return bool4;
+    }
+
+    public void setBool4(Boolean bool4) {
+        this.bool4 = bool4;
+    }
+
+    public Date getDate5() {
+        return date5;
+    }
+
+    public void setDate5(Date date5) {
+        this.date5 = date5;
+    }
+
+    public Long getLong6() {
+        return long6;
+    }
+
+    public void setLong6(Long long6) {
+        this.long6 = long6;
+    }
+
+    public String getString7() {
+        return string7;
+    }
+
+    public void setString7(String string7) {
+        this.string7 = string7;
+    }
+
+    public Integer getInt8() {
+        return int8;
+    }
+
+    public void setInt8(Integer int8) {
+        this.int8 = int8;
+    }
+
+    public Double getDouble9() {
+        return double9;
+    }
+
+    public void setDouble9(Double double9) {
+        this.double9 = double9;
+    }
+
+    public Boolean getBool10() {
+        return bool10;
+    }
+
+    public void setBool10(Boolean bool10) {
+        this.bool10 = bool10;
+    }
+
+    public Date getDate11() {
+        return date11;
+    }
+
+    public void setDate11(Date date11) {
+        this.date11 = date11;
+    }
+
+    public Long getLong12() {
+        return long12;
+    }
+
+    public void setLong12(Long long12) {
+        this.long12 = long12;
+    }
+
+    public String getString13() {
+        return string13;
+    }
+
+    public void setString13(String string13) {
+        this.string13 = string13;
+    }
+
+    public Integer getInt14() {
+        return int14;
+    }
+
+    public void setInt14(Integer int14) {
+        this.int14 = int14;
+    }
+
+    public Double getDouble15() {
+        return double15;
+    }
+
+    public void setDouble15(Double double15) {
+        this.double15 = double15;
+    }
+
+    public Boolean getBool16() {
+        return bool16;
+    }
+
+    public void setBool16(Boolean bool16) {
+        this.bool16 = bool16;
+    }
+
+    public Date getDate17() {
+        return date17;
+    }
+
+    public void setDate17(Date date17) {
+        this.date17 = date17;
+    }
+
+    public Long getLong18() {
+        return long18;
+    }
+
+    public void setLong18(Long long18) {
+        this.long18 = long18;
+    }
+
+    public String getString19() {
+        return string19;
+    }
+
+    public void setString19(String string19) {
+        this.string19 = string19;
+    }
+
+    public Integer getInt20() {
+        return int20;
+    }
+
+    public void setInt20(Integer int20) {
+        this.int20 = int20;
+    }
+
+    public Double getDouble21() {
+        return double21;
+    }
+
+    public void setDouble21(Double double21) {
+        this.double21 = double21;
+    }
+
+    public Boolean getBool22() {
+        return bool22;
+    }
+
+    public void setBool22(Boolean bool22) {
+        this.bool22 = bool22;
+    }
+
+    public Date getDate23() {
+        return date23;
+    }
+
+    public void setDate23(Date date23) {
+        this.date23 = date23;
+    }
+
+    public Long getLong24() {
+        return long24;
+    }
+
+    public void setLong24(Long long24) {
+        this.long24 = long24;
+    }
+
+    public String getString25() {
+        return string25;
+    }
+
+    public void setString25(String string25) {
+        this.string25 = string25;
+    }
+
+    public Integer getInt26() {
+        return int26;
+    }
+
+    public void setInt26(Integer int26) {
+        this.int26 = int26;
+    }
+
+    public Double getDouble27() {
+        return double27;
+    }
+
+    public void setDouble27(Double double27) {
+        this.double27 = double27;
+    }
+
+    public Boolean getBool28() {
+        return bool28;
+    }
+
+    public void setBool28(Boolean bool28) {
+        this.bool28 = bool28;
+    }
+
+    public Date getDate29() {
+        return date29;
+    }
+
+    public void setDate29(Date date29) {
+        this.date29 = date29;
+    }
+
+    public Long getLong30() {
+        return long30;
+    }
+
+    public void setLong30(Long long30) {
+        this.long30 = long30;
+    }
+
+    public String getString31() {
+        return string31;
+    }
+
+    public void setString31(String string31) {
+        this.string31 = string31;
+    }
+
+    public Integer getInt32() {
+        return int32;
+    }
+
+    public void setInt32(Integer int32) {
+        this.int32 = int32;
+    }
+
+    public Double getDouble33() {
+        return double33;
+    }
+
+    public void setDouble33(Double double33) {
+        this.double33 = double33;
+    }
+
+    public Boolean getBool34() {
+        return bool34;
+    }
+
+    public void setBool34(Boolean bool34) {
+        this.bool34 = bool34;
+    }
+
+    public Date getDate35() {
+        return date35;
+    }
+
+    public void setDate35(Date date35) {
+        this.date35 = date35;
+    }
+
+    public Long getLong36() {
+        return long36;
+    }
+
+    public void setLong36(Long long36) {
+        this.long36 = long36;
+    }
+
+    public String getString37() {
+        return string37;
+    }
+
+    public void setString37(String string37) {
+        this.string37 = string37;
+    }
+
+    public Integer getInt38() {
+        return int38;
+    }
+
+    public void setInt38(Integer int38) {
+        this.int38 = int38;
+    }
+
+    public Double getDouble39() {
+        return double39;
+    }
+
+    public void setDouble39(Double double39) {
+        this.double39 = double39;
+    }
+
+    public Boolean getBool40() {
+        return bool40;
+    }
+
+    public void setBool40(Boolean bool40) {
+        this.bool40 = bool40;
+    }
+
+    public Date getDate41() {
+        return date41;
+    }
+
+    public void setDate41(Date date41) {
+        this.date41 = date41;
+    }
+
+    public Long getLong42() {
+        return long42;
+    }
+
+    public void setLong42(Long long42) {
+        this.long42 = long42;
+    }
+
+    public String getString43() {
+        return string43;
+    }
+
+    public void setString43(String string43) {
+        this.string43 = string43;
+    }
+
+    public Integer getInt44() {
+        return int44;
+    }
+
+    public void setInt44(Integer int44) {
+        this.int44 = int44;
+    }
+
+    public Double getDouble45() {
+        return double45;
+    }
+
+    public void setDouble45(Double double45) {
+        this.double45 = double45;
+    }
+
+    public Boolean getBool46() {
+        return bool46;
+    }
+
+    public void setBool46(Boolean bool46) {
+        this.bool46 = bool46;
+    }
+
+    public Date getDate47() {
+        return date47;
+    }
+
+    public void setDate47(Date date47) {
+        this.date47 = date47;
+    }
+
+    public Long getLong48() {
+        return long48;
+    }
+
+    public void setLong48(Long long48) {
+        this.long48 = long48;
+    }
+
+    public String getString49() {
+        return string49;
+    }
+
+    public void setString49(String string49) {
+        this.string49 = string49;
+    }
+}
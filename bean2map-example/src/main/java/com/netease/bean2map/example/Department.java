@@ -0,0 +1,96 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.MapCodec;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@MapCodec
+public class Department {
+    private String name;
+    private Employee leader;
+    private Department parent;
+    private List<Employee> members;
+    private Map<String, Employee> employees;
+    private Set<Long> projectIds;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Employee getLeader() {
+        return leader;
+    }
+
+    public void setLeader(Employee leader) {
+        this.leader = leader;
+    }
+
+    public Department getParent() {
+        return parent;
+    }
+
+    public void setParent(Department parent) {
+        this.parent = parent;
+    }
+
+    public List<Employee> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<Employee> members) {
+        this.members = members;
+    }
+
+    public Map<String, Employee> getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(Map<String, Employee> employees) {
+        this.employees = employees;
+    }
+
+    public Set<Long> getProjectIds() {
+        return projectIds;
+    }
+
+    public void setProjectIds(Set<Long> projectIds) {
+        this.projectIds = projectIds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Department)) return false;
+        Department that = (Department) o;
+        return Objects.equals(name, that.name) &&
+                Objects.equals(leader, that.leader) &&
+                Objects.equals(parent, that.parent) &&
+                Objects.equals(members, that.members) &&
+                Objects.equals(employees, that.employees) &&
+                Objects.equals(projectIds, that.projectIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, leader, parent, members, employees, projectIds);
+    }
+
+    @Override
+    public String toString() {
+        return "Department{" +
+                "name='" + name + '\'' +
+                ", leader=" + leader +
+                ", parent=" + parent +
+                ", members=" + members +
+                ", employees=" + employees +
+                ", projectIds=" + projectIds +
+                '}';
+    }
+}
@@ -0,0 +1,63 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.DateFormat;
+import com.netease.bean2map.codec.MapCodec;
+
+import java.util.Date;
+import java.util.Objects;
+
+@MapCodec
+public class Employee {
+    private Long id;
+    private String name;
+    @DateFormat(pattern = DateFormat.DATE)
+    private Date birthday;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Date getBirthday() {
+        return birthday;
+    }
+
+    public void setBirthday(Date birthday) {
+        this.birthday = birthday;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Employee)) return false;
+        Employee employee = (Employee) o;
+        return Objects.equals(id, employee.id) &&
+                Objects.equals(name, employee.name) &&
+                Objects.equals(birthday, employee.birthday);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, birthday);
+    }
+
+    @Override
+    public String toString() {
+        return "Employee{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", birthday=" + birthday +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.MapConverter;
+import com.netease.bean2map.codec.PropertyConverter;
+import com.netease.bean2map.codec.TypeUtils;
+
+import java.util.Objects;
+
+/**
+ * 以分为单位的金额，map中为long
+ */
+@MapConverter(Money.Converter.class)
+public final class Money {
+    private final long cents;
+
+    public Money(long cents) {
+        this.cents = cents;
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money && ((Money) o).cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return "Money{" + cents + '}';
+    }
+
+    public static class Converter implements PropertyConverter<Money> {
+        @Override
+        public Object encode(Money value) {
+            return value.getCents();
+        }
+
+        @Override
+        public Money decode(Object value) {
+            return value instanceof Money ? (Money) value : new Money(TypeUtils.longValue(value));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.DateFormat;
+import com.netease.bean2map.codec.MapCodec;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@MapCodec
+public class Payment {
+    private UUID id;
+    private BigDecimal amount;
+    @DateFormat
+    private LocalDateTime createTime;
+    @DateFormat(pattern = DateFormat.DATE)
+    private LocalDate billDate;
+    @DateFormat(timestamp = true)
+    private Instant paidAt;
+    private LocalDateTime updateTime;
+    @DateFormat(pattern = "yyyy/MM/dd")
+    private List<LocalDate> dueDates;
+    @DateFormat
+    private LocalDate settleDate;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(LocalDateTime createTime) {
+        this.createTime = createTime;
+    }
+
+    public LocalDate getBillDate() {
+        return billDate;
+    }
+
+    public void setBillDate(LocalDate billDate) {
+        this.billDate = billDate;
+    }
+
+    public Instant getPaidAt() {
+        return paidAt;
+    }
+
+    public void setPaidAt(Instant paidAt) {
+        this.paidAt = paidAt;
+    }
+
+    public LocalDateTime getUpdateTime() {
+        return updateTime;
+    }
+
+    public void setUpdateTime(LocalDateTime updateTime) {
+        this.updateTime = updateTime;
+    }
+
+    public List<LocalDate> getDueDates() {
+        return dueDates;
+    }
+
+    public void setDueDates(List<LocalDate> dueDates) {
+        this.dueDates = dueDates;
+    }
+
+    public LocalDate getSettleDate() {
+        return settleDate;
+    }
+
+    public void setSettleDate(LocalDate settleDate) {
+        this.settleDate = settleDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Payment)) return false;
+        Payment payment = (Payment) o;
+        return Objects.equals(id, payment.id) &&
+                Objects.equals(amount, payment.amount) &&
+                Objects.equals(createTime, payment.createTime) &&
+                Objects.equals(billDate, payment.billDate) &&
+                Objects.equals(paidAt, payment.paidAt) &&
+                Objects.equals(updateTime, payment.updateTime) &&
+                Objects.equals(dueDates, payment.dueDates) &&
+                Objects.equals(settleDate, payment.settleDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, amount, createTime, billDate, paidAt, updateTime, dueDates, settleDate);
+    }
+}
@@ -0,0 +1,94 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.EnumFormat;
+import com.netease.bean2map.codec.MapCodec;
+import com.netease.bean2map.codec.MapConverter;
+import com.netease.bean2map.codec.PropertyConverter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+@MapCodec
+public class Product {
+    @MapConverter(UpperCase.class)
+    private String code;
+    private Money price;
+    private List<Money> history;
+    private Category category;
+    @EnumFormat(ordinal = true)
+    private List<Category> related;
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public void setPrice(Money price) {
+        this.price = price;
+    }
+
+    public List<Money> getHistory() {
+        return history;
+    }
+
+    public void setHistory(List<Money> history) {
+        this.history = history;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
+    public List<Category> getRelated() {
+        return related;
+    }
+
+    public void setRelated(List<Category> related) {
+        this.related = related;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Product)) return false;
+        Product product = (Product) o;
+        return Objects.equals(code, product.code) &&
+                Objects.equals(price, product.price) &&
+                Objects.equals(history, product.history) &&
+                category == product.category &&
+                Objects.equals(related, product.related);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(code, price, history, category, related);
+    }
+
+    public enum Category {
+        BOOK, FOOD, TOY
+    }
+
+    public static class UpperCase implements PropertyConverter<String> {
+        @Override
+        public Object encode(String value) {
+            return value.toUpperCase(Locale.ROOT);
+        }
+
+        @Override
+        public String decode(Object value) {
+            return value.toString().toLowerCase(Locale.ROOT);
+        }
+    }
+}
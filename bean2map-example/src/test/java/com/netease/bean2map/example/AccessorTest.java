@@ -0,0 +1,191 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.KeyIndex;
+import com.netease.bean2map.codec.MapCodecRegister;
+import com.netease.bean2map.codec.PropertySchema;
+import com.netease.bean2map.codec.TypeUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public class AccessorTest {
+    private final IMapCodec<Employee> codec = MapCodecRegister.getCodec(Employee.class);
+    private final IMapCodec<Metrics> metricsCodec = MapCodecRegister.getCodec(Metrics.class);
+
+    @Test
+    public void testByName() {
+        Employee employee = NestedTest.employee(1);
+        for (String name : new String[]{"id", "name", "birthday", "unknown"}) {
+            Assert.assertEquals(codec.code(employee).get(name), codec.get(employee, name));
+        }
+
+        Assert.assertTrue(codec.set(employee, "id", "7"));
+        Assert.assertTrue(codec.set(employee, "birthday", "1990-01-03"));
+        Assert.assertTrue(codec.set(employee, "name", null));
+        Assert.assertFalse(codec.set(employee, "unknown", 1));
+        Assert.assertEquals(Long.valueOf(7), employee.getId());
+        Assert.assertEquals(NestedTest.employee(3).getBirthday(), employee.getBirthday());
+        Assert.assertNull(employee.getName());
+    }
+
+    @Test
+    public void testPrimitiveByName() {
+        Metrics metrics = new Metrics();
+        Assert.assertTrue(metricsCodec.set(metrics, "count", 5));
+        Assert.assertTrue(metricsCodec.set(metrics, "alive", "true"));
+        Assert.assertEquals(5L, metricsCodec.get(metrics, "count"));
+        Assert.assertEquals(true, metricsCodec.get(metrics, "alive"));
+    }
+
+    @Test
+    public void testHandWrittenByName() {
+        IMapCodec<RuntimeCodecTest.Plain> plainCodec = new PlainCodec();
+        RuntimeCodecTest.Plain plain = new RuntimeCodecTest.Plain();
+        Assert.assertTrue(plainCodec.set(plain, "c", "3"));
+        Assert.assertFalse(plainCodec.set(plain, "count", 1));
+        plainCodec.decodeInto(Collections.singletonMap("n", "p"), plain);
+        plainCodec.patch(plain, Collections.singletonMap("t", 9));
+        Assert.assertEquals("p", plain.getName());
+        Assert.assertEquals(3, plain.getCount());
+        Assert.assertEquals(Long.valueOf(9), plain.getTotal());
+        Assert.assertEquals(9L, plainCodec.get(plain, "t"));
+    }
+
+    @Test
+    public void testHandWrittenByOrdinal() {
+        IMapCodec<RuntimeCodecTest.Plain> plainCodec = new PlainCodec();
+        PropertySchema schema = plainCodec.schema();
+        RuntimeCodecTest.Plain plain = new RuntimeCodecTest.Plain();
+        Assert.assertTrue(plainCodec.set(plain, schema.indexOf("n"), "p"));
+        Assert.assertTrue(plainCodec.set(plain, schema.indexOf("t"), 9L));
+        Assert.assertEquals("p", plainCodec.get(plain, schema.indexOf("n")));
+        Assert.assertEquals(Collections.singletonMap("t", 9L), plainCodec.projection("t").code(plain));
+
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        plainCodec.writeTo(plain, buffer);
+        buffer.flip();
+        RuntimeCodecTest.Plain copy = plainCodec.readFrom(buffer);
+        Assert.assertEquals("p", copy.getName());
+        Assert.assertEquals(Long.valueOf(9), copy.getTotal());
+    }
+
+    @Test
+    public void testHandWrittenWithoutSchema() {
+        IMapCodec<RuntimeCodecTest.Plain> plainCodec = new RenamedCodec();
+        RuntimeCodecTest.Plain plain = plainCodec.decode(Collections.singletonMap("n", "p"));
+        Assert.assertEquals("p", plain.getName());
+        Assert.assertEquals("p", plainCodec.get(plain, "n"));
+        Assert.assertNull(plainCodec.get(plain, "name"));
+        for (Runnable unsupported : new Runnable[]{
+                () -> plainCodec.schema(),
+                () -> plainCodec.set(plain, "n", "q"),
+                () -> plainCodec.decodeInto(Collections.singletonMap("n", "q"), plain),
+                () -> plainCodec.get(plain, 0),
+                () -> plainCodec.writeTo(plain, ByteBuffer.allocate(128))}) {
+            try {
+                unsupported.run();
+                Assert.fail();
+            } catch (UnsupportedOperationException expected) {
+            }
+        }
+        Assert.assertEquals("p", plain.getName());
+    }
+
+    @Test
+    public void testSchema() {
+        PropertySchema schema = codec.schema();
+        Assert.assertEquals(3, schema.size());
+        PropertySchema.Property birthday = schema.property("birthday");
+        Assert.assertEquals(Date.class, birthday.getType());
+        Assert.assertEquals("yyyy-MM-dd", birthday.getDatePattern());
+        Assert.assertFalse(birthday.isTimestamp());
+        Assert.assertEquals(long.class, metricsCodec.schema().property("count").getType());
+        Assert.assertNull(schema.property("unknown"));
+        Assert.assertEquals(-1, schema.indexOf("unknown"));
+    }
+
+    @Test
+    public void testByOrdinal() {
+        Employee employee = NestedTest.employee(1);
+        PropertySchema schema = codec.schema();
+        for (PropertySchema.Property property : schema.properties()) {
+            Assert.assertEquals(codec.get(employee, property.getName()), codec.get(employee, property.getOrdinal()));
+        }
+        Assert.assertNull(codec.get(employee, schema.size()));
+
+        int id = schema.indexOf("id");
+        Assert.assertTrue(codec.set(employee, id, 9));
+        Assert.assertFalse(codec.set(employee, -1, 9));
+        Assert.assertEquals(Long.valueOf(9), employee.getId());
+    }
+
+    /**
+     * 手写的codec，只实现了必须的方法，key与javabean的属性名不同
+     */
+    static class RenamedCodec implements IMapCodec<RuntimeCodecTest.Plain> {
+        @Override
+        public Map<String, Object> code(RuntimeCodecTest.Plain entity) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("n", entity.getName());
+            map.put("c", entity.getCount());
+            map.put("t", entity.getTotal());
+            map.values().removeIf(value -> value == null);
+            return map;
+        }
+
+        @Override
+        public RuntimeCodecTest.Plain decode(Map<String, Object> map) {
+            RuntimeCodecTest.Plain plain = new RuntimeCodecTest.Plain();
+            plain.setName((String) map.get("n"));
+            plain.setCount(map.get("c") != null ? TypeUtils.intValue(map.get("c")) : 0);
+            plain.setTotal(TypeUtils.castToLong(map.get("t")));
+            return plain;
+        }
+
+        @Override
+        public Map<String, Object> filter(Map<String, Object> map) {
+            Map<String, Object> result = new HashMap<>(map);
+            result.keySet().retainAll(Arrays.asList("n", "c", "t"));
+            return result;
+        }
+    }
+
+    /**
+     * 覆盖schema()和set()后可以使用其余的默认方法
+     */
+    static class PlainCodec extends RenamedCodec {
+        private static final PropertySchema SCHEMA = new PropertySchema(new KeyIndex("n", "c", "t"),
+                new PropertySchema.Property("n", 0, String.class, true, true, null, false),
+                new PropertySchema.Property("c", 1, int.class, true, true, null, false),
+                new PropertySchema.Property("t", 2, Long.class, true, true, null, false));
+
+        @Override
+        public boolean set(RuntimeCodecTest.Plain entity, String name, Object value) {
+            switch (SCHEMA.indexOf(name)) {
+                case 0:
+                    entity.setName(TypeUtils.castToString(value));
+                    return true;
+                case 1:
+                    entity.setCount(TypeUtils.intValue(value));
+                    return true;
+                case 2:
+                    entity.setTotal(TypeUtils.castToLong(value));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        public PropertySchema schema() {
+            return SCHEMA;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class BatchTest {
+    private final IMapCodec<Simple> codec = MapCodecRegister.getCodec(Simple.class);
+
+    private List<Simple> entities(int size) {
+        List<Simple> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Simple simple = new Simple();
+            simple.setId(String.valueOf(i));
+            entities.add(i == 7 ? null : simple);
+        }
+        return entities;
+    }
+
+    @Test
+    public void testCodeAll() {
+        List<Simple> entities = entities(10);
+        List<Map<String, Object>> maps = codec.codeAll(entities);
+        Assert.assertEquals(10, maps.size());
+        Assert.assertNull(maps.get(7));
+        Assert.assertEquals("3", maps.get(3).get("id"));
+        Assert.assertEquals(entities, codec.decodeAll(maps));
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        List<Simple> entities = entities(50000);
+        List<Map<String, Object>> maps = codec.parallelCodeAll(entities);
+        Assert.assertEquals(codec.codeAll(entities), maps);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Assert.assertEquals(entities, codec.parallelDecodeAll(maps, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void testParallelFailure() {
+        List<Map<String, Object>> maps = new ArrayList<>(codec.codeAll(entities(5000)));
+        maps.set(4000, Collections.singletonMap("valid", "maybe"));
+        codec.parallelDecodeAll(maps);
+    }
+}
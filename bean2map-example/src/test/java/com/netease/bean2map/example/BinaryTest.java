@@ -0,0 +1,227 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.BinaryFormat;
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.KeyIndex;
+import com.netease.bean2map.codec.MapCodecRegister;
+import com.netease.bean2map.codec.PropertySchema;
+import com.netease.bean2map.codec.RuntimeCodec;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.UUID;
+
+public class BinaryTest {
+
+    @Test
+    public void testPrimitives() {
+        IMapCodec<Metrics> codec = MapCodecRegister.getCodec(Metrics.class);
+        Metrics metrics = new Metrics();
+        metrics.setName("请求😀");
+        metrics.setCount(Long.MAX_VALUE);
+        metrics.setMean(0.5);
+        metrics.setErrors(-3);
+        metrics.setAlive(true);
+
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        codec.writeTo(metrics, buffer);
+        buffer.flip();
+        Metrics copy = codec.readFrom(buffer);
+        Assert.assertFalse(buffer.hasRemaining());
+        Assert.assertEquals(metrics.getName(), copy.getName());
+        Assert.assertEquals(Long.MAX_VALUE, copy.getCount());
+        Assert.assertEquals(0.5, copy.getMean(), 0);
+        Assert.assertEquals(-3, copy.getErrors());
+        Assert.assertTrue(copy.isAlive());
+    }
+
+    @Test
+    public void testNestedAndContainers() {
+        IMapCodec<Department> codec = MapCodecRegister.getCodec(Department.class);
+        Department department = new Department();
+        department.setName("d1");
+        department.setLeader(NestedTest.employee(1));
+        department.setMembers(Arrays.asList(NestedTest.employee(2), null));
+        Map<String, Employee> employees = new LinkedHashMap<>();
+        employees.put("e3", NestedTest.employee(3));
+        department.setEmployees(employees);
+        department.setProjectIds(new LinkedHashSet<>(Arrays.asList(7L, 8L)));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+        codec.writeTo(department, buffer);
+        buffer.flip();
+        Assert.assertEquals(department, codec.readFrom(buffer));
+    }
+
+    @Test
+    public void testValueTypes() {
+        IMapCodec<Payment> codec = MapCodecRegister.getCodec(Payment.class);
+        Payment payment = new Payment();
+        payment.setId(UUID.randomUUID());
+        payment.setAmount(new BigDecimal("-12345678901234567890.50"));
+        payment.setCreateTime(LocalDateTime.of(2014, 3, 22, 10, 15, 30));
+        payment.setBillDate(LocalDate.of(2014, 3, 31));
+        payment.setPaidAt(Instant.ofEpochMilli(1395454530123L));
+        payment.setUpdateTime(LocalDateTime.of(2014, 3, 22, 10, 15, 30, 5000));
+        payment.setDueDates(Collections.singletonList(LocalDate.of(2014, 4, 1)));
+
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        codec.writeTo(payment, buffer);
+        buffer.flip();
+        Assert.assertEquals(payment, codec.readFrom(buffer));
+    }
+
+    @Test
+    public void testRuntimeCodec() {
+        IMapCodec<RuntimeCodecTest.Plain> codec = RuntimeCodec.create(RuntimeCodecTest.Plain.class);
+        RuntimeCodecTest.Plain plain = new RuntimeCodecTest.Plain();
+        plain.setName("p");
+        plain.setCount(3);
+        plain.setTotal(9L);
+
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        codec.writeTo(plain, buffer);
+        buffer.flip();
+        RuntimeCodecTest.Plain copy = codec.readFrom(buffer);
+        Assert.assertEquals("p", copy.getName());
+        Assert.assertEquals(3, copy.getCount());
+        Assert.assertEquals(Long.valueOf(9), copy.getTotal());
+    }
+
+    @Test
+    public void testSchemaEvolution() {
+        IMapCodec<Simple> codec = MapCodecRegister.getCodec(Simple.class);
+        PropertySchema schema = codec.schema();
+
+        String[] names = new String[schema.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = schema.property(i).getName();
+        }
+        int id = schema.indexOf("id");
+        int valid = schema.indexOf("valid");
+
+        // 写出方在末尾新增了属性
+        String[] newer = Arrays.copyOf(names, names.length + 1);
+        newer[names.length] = "extra";
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        BinaryFormat.writeHeader(buffer, schema(schema, newer));
+        BinaryFormat.writeValue(buffer, names.length, Arrays.asList(1, "x", Collections.singletonMap("k", 2L)));
+        BinaryFormat.writeValue(buffer, id, "aaa");
+        BinaryFormat.writeBoolean(buffer, valid, true);
+        BinaryFormat.writeEnd(buffer);
+        buffer.flip();
+        Simple simple = codec.readFrom(buffer);
+        Assert.assertEquals("aaa", simple.getId());
+        Assert.assertTrue(simple.isValid());
+
+        // 写出方缺少末尾的属性
+        buffer.clear();
+        BinaryFormat.writeHeader(buffer, schema(schema, Arrays.copyOf(names, id + 1)));
+        BinaryFormat.writeValue(buffer, id, "bbb");
+        BinaryFormat.writeEnd(buffer);
+        buffer.flip();
+        Assert.assertEquals("bbb", codec.readFrom(buffer).getId());
+
+        // 属性顺序改变
+        String[] reordered = names.clone();
+        reordered[0] = names[1];
+        reordered[1] = names[0];
+        buffer.clear();
+        BinaryFormat.writeHeader(buffer, schema(schema, reordered));
+        BinaryFormat.writeEnd(buffer);
+        buffer.flip();
+        assertIncompatible(codec, buffer);
+
+        // 写出方新增属性的同时调整了顺序，读取方属性更少
+        String[] newerReordered = Arrays.copyOf(reordered, names.length + 1);
+        newerReordered[names.length] = "extra";
+        buffer.clear();
+        BinaryFormat.writeHeader(buffer, schema(schema, newerReordered));
+        BinaryFormat.writeEnd(buffer);
+        buffer.flip();
+        assertIncompatible(codec, buffer);
+
+        // 写出方新增属性的同时修改了id的类型
+        PropertySchema.Property[] retyped = schema(schema, newer).properties().toArray(new PropertySchema.Property[0]);
+        retyped[id] = new PropertySchema.Property("id", id, Long.class, true, true, null, false);
+        buffer.clear();
+        BinaryFormat.writeHeader(buffer, new PropertySchema(new KeyIndex(newer), retyped));
+        BinaryFormat.writeEnd(buffer);
+        buffer.flip();
+        assertIncompatible(codec, buffer);
+
+        // 父类新增属性，子类的属性下标全部后移
+        int rules = schema.indexOf("rules");
+        String[] parentGrown = new String[names.length + 1];
+        System.arraycopy(names, 0, parentGrown, 0, rules);
+        parentGrown[rules] = "extra";
+        System.arraycopy(names, rules, parentGrown, rules + 1, names.length - rules);
+        buffer.clear();
+        BinaryFormat.writeHeader(buffer, schema(schema, parentGrown));
+        BinaryFormat.writeEnd(buffer);
+        buffer.flip();
+        assertIncompatible(codec, buffer);
+
+        // 读取方最多落后TAIL_HASHES个属性
+        String[] far = Arrays.copyOf(names, names.length + BinaryFormat.TAIL_HASHES + 1);
+        for (int i = names.length; i < far.length; i++) {
+            far[i] = "extra" + i;
+        }
+        buffer.clear();
+        BinaryFormat.writeHeader(buffer, schema(schema, Arrays.copyOf(far, far.length - 1)));
+        BinaryFormat.writeValue(buffer, id, "ccc");
+        BinaryFormat.writeEnd(buffer);
+        buffer.flip();
+        Assert.assertEquals("ccc", codec.readFrom(buffer).getId());
+        buffer.clear();
+        BinaryFormat.writeHeader(buffer, schema(schema, far));
+        BinaryFormat.writeEnd(buffer);
+        buffer.flip();
+        assertIncompatible(codec, buffer);
+    }
+
+    @Test
+    public void testHeaderSize() {
+        String[] names = new String[40];
+        PropertySchema.Property[] properties = new PropertySchema.Property[names.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "p" + i;
+            properties[i] = new PropertySchema.Property(names[i], i, int.class, true, true, null, false);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        BinaryFormat.writeHeader(buffer, new PropertySchema(new KeyIndex(names), properties));
+        // 版本、指纹、个数和末尾属性的哈希，与属性个数无关
+        Assert.assertEquals(1 + 4 + 1 + 2 * BinaryFormat.TAIL_HASHES, buffer.position());
+    }
+
+    private static void assertIncompatible(IMapCodec<?> codec, ByteBuffer buffer) {
+        try {
+            codec.readFrom(buffer);
+            Assert.fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    /**
+     * 按属性名从已有schema中挑选，不存在的属性为String类型
+     */
+    private static PropertySchema schema(PropertySchema schema, String... names) {
+        PropertySchema.Property[] properties = new PropertySchema.Property[names.length];
+        for (int i = 0; i < names.length; i++) {
+            PropertySchema.Property property = schema.property(names[i]);
+            properties[i] = new PropertySchema.Property(names[i], i, property != null ? property.getType() : String.class,
+                    true, true, null, false);
+        }
+        return new PropertySchema(new KeyIndex(names), properties);
+    }
+}
@@ -0,0 +1,216 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.ByteKeyIndex;
+import com.netease.bean2map.codec.ByteValues;
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.KeyIndex;
+import com.netease.bean2map.codec.MapCodecRegister;
+import com.netease.bean2map.codec.PropertySchema;
+import com.netease.bean2map.codec.RuntimeCodec;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class BytesTest {
+    public static class Tagged {
+        private List<String> tags;
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    /**
+     * 只实现必须的方法和schema()，其余使用IMapCodec的默认实现
+     */
+    private static final class DelegatingCodec<T> implements IMapCodec<T> {
+        private final IMapCodec<T> delegate;
+
+        DelegatingCodec(IMapCodec<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Map<String, Object> code(T entity) {
+            return delegate.code(entity);
+        }
+
+        @Override
+        public T decode(Map<String, Object> map) {
+            return delegate.decode(map);
+        }
+
+        @Override
+        public Map<String, Object> filter(Map<String, Object> map) {
+            return delegate.filter(map);
+        }
+
+        @Override
+        public PropertySchema schema() {
+            return delegate.schema();
+        }
+    }
+
+    @Test
+    public void testPrimitives() {
+        IMapCodec<Metrics> codec = MapCodecRegister.getCodec(Metrics.class);
+        Metrics metrics = new Metrics();
+        metrics.setName("请求");
+        metrics.setCount(Long.MIN_VALUE);
+        metrics.setMean(0.25);
+        metrics.setErrors(42);
+        metrics.setAlive(true);
+
+        Map<String, String> strings = strings(codec.codeToBytes(metrics));
+        Assert.assertEquals("请求", strings.get("name"));
+        Assert.assertEquals(String.valueOf(Long.MIN_VALUE), strings.get("count"));
+        Assert.assertEquals("0.25", strings.get("mean"));
+        Assert.assertEquals("42", strings.get("errors"));
+        Assert.assertEquals("true", strings.get("alive"));
+
+        Metrics copy = codec.decodeFromBytes(copyKeys(codec.codeToBytes(metrics)));
+        Assert.assertEquals("请求", copy.getName());
+        Assert.assertEquals(Long.MIN_VALUE, copy.getCount());
+        Assert.assertEquals(0.25, copy.getMean(), 0);
+        Assert.assertEquals(42, copy.getErrors());
+        Assert.assertTrue(copy.isAlive());
+    }
+
+    @Test
+    public void testDatesAndEnums() {
+        IMapCodec<Employee> employees = MapCodecRegister.getCodec(Employee.class);
+        Employee employee = NestedTest.employee(5);
+        Assert.assertEquals("1990-01-05", strings(employees.codeToBytes(employee)).get("birthday"));
+        Assert.assertEquals(employee, employees.decodeFromBytes(copyKeys(employees.codeToBytes(employee))));
+
+        IMapCodec<Payment> payments = MapCodecRegister.getCodec(Payment.class);
+        Payment payment = new Payment();
+        payment.setId(UUID.randomUUID());
+        payment.setAmount(new BigDecimal("12.50"));
+        payment.setCreateTime(LocalDateTime.of(2014, 3, 22, 10, 15, 30));
+        payment.setBillDate(LocalDate.of(2014, 3, 31));
+        payment.setPaidAt(Instant.ofEpochMilli(1395454530123L));
+        payment.setUpdateTime(LocalDateTime.of(2014, 3, 22, 10, 15, 30, 5000));
+        Map<String, String> strings = strings(payments.codeToBytes(payment));
+        Assert.assertEquals("2014-03-22 10:15:30", strings.get("createTime"));
+        Assert.assertEquals("1395454530123", strings.get("paidAt"));
+        Assert.assertEquals(payment, payments.decodeFromBytes(copyKeys(payments.codeToBytes(payment))));
+
+        IMapCodec<Product> products = MapCodecRegister.getCodec(Product.class);
+        Product product = new Product();
+        product.setCode("abc");
+        product.setPrice(new Money(100));
+        product.setCategory(Product.Category.TOY);
+        Assert.assertEquals("TOY", strings(products.codeToBytes(product)).get("category"));
+        Assert.assertEquals(product, products.decodeFromBytes(copyKeys(products.codeToBytes(product))));
+    }
+
+    @Test
+    public void testNestedAndContainers() {
+        IMapCodec<Department> departments = MapCodecRegister.getCodec(Department.class);
+        Department parent = new Department();
+        parent.setName("p");
+        Department department = new Department();
+        department.setName("d1");
+        department.setParent(parent);
+        department.setLeader(NestedTest.employee(1));
+        department.setMembers(Arrays.asList(NestedTest.employee(2), null));
+        Map<String, Employee> employees = new LinkedHashMap<>();
+        employees.put("e3", NestedTest.employee(3));
+        department.setEmployees(employees);
+        department.setProjectIds(new LinkedHashSet<>(Arrays.asList(7L, 8L)));
+        Assert.assertEquals(department, departments.decodeFromBytes(copyKeys(departments.codeToBytes(department))));
+
+        IMapCodec<Payment> payments = MapCodecRegister.getCodec(Payment.class);
+        Payment payment = new Payment();
+        payment.setDueDates(Arrays.asList(LocalDate.of(2014, 4, 1), LocalDate.of(2014, 5, 1)));
+        Assert.assertEquals(payment, payments.decodeFromBytes(copyKeys(payments.codeToBytes(payment))));
+
+        // 未覆盖codeToBytes()/decodeFromBytes()的codec按schema()读取嵌套的javabean
+        IMapCodec<Department> delegating = new DelegatingCodec<>(departments);
+        Assert.assertTrue(departments.schema().property("leader").isStructured());
+        Assert.assertEquals(department, delegating.decodeFromBytes(copyKeys(delegating.codeToBytes(department))));
+
+        IMapCodec<Tagged> runtime = RuntimeCodec.create(Tagged.class);
+        Tagged tagged = new Tagged();
+        tagged.setTags(Arrays.asList("a", "b"));
+        Assert.assertEquals(tagged.getTags(), runtime.decodeFromBytes(copyKeys(runtime.codeToBytes(tagged))).getTags());
+    }
+
+    @Test
+    public void testRuntimeCodec() {
+        IMapCodec<RuntimeCodecTest.Plain> codec = RuntimeCodec.create(RuntimeCodecTest.Plain.class);
+        RuntimeCodecTest.Plain plain = new RuntimeCodecTest.Plain();
+        plain.setName("p");
+        plain.setCount(3);
+        RuntimeCodecTest.Plain copy = codec.decodeFromBytes(codec.codeToBytes(plain));
+        Assert.assertEquals("p", copy.getName());
+        Assert.assertEquals(3, copy.getCount());
+        Assert.assertNull(copy.getTotal());
+    }
+
+    @Test
+    public void testByteValues() {
+        for (long value : new long[]{0, 7, -7, 10, 99, 100, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            byte[] bytes = ByteValues.toBytes(value);
+            Assert.assertEquals(String.valueOf(value), new String(bytes, StandardCharsets.US_ASCII));
+            Assert.assertEquals(value, ByteValues.longValue(bytes));
+        }
+        Assert.assertEquals(12, ByteValues.intValue("+12".getBytes(StandardCharsets.US_ASCII)));
+        for (String invalid : new String[]{"", "-", "1.5", "9223372036854775808", "2147483648"}) {
+            try {
+                ByteValues.intValue(invalid.getBytes(StandardCharsets.US_ASCII));
+                Assert.fail(invalid);
+            } catch (ClassCastException expected) {
+            }
+        }
+        byte[] raw = {1, 2};
+        Assert.assertArrayEquals(raw, ByteValues.toBytes((Object) raw));
+        Assert.assertNotSame(raw, ByteValues.toBytes((Object) raw));
+        Assert.assertFalse(ByteValues.booleanValue("false".getBytes(StandardCharsets.US_ASCII)));
+        Assert.assertTrue(ByteValues.booleanValue("1".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    public void testByteKeyIndex() {
+        ByteKeyIndex index = new ByteKeyIndex(new KeyIndex("id", "name", "名称"));
+        Assert.assertEquals(2, index.indexOf("名称".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(0, index.indexOf(index.key(0)));
+        Assert.assertEquals(-1, index.indexOf("other".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(-1, index.indexOf(null));
+    }
+
+    /**
+     * 模拟从Redis读取，key不再是codec中的数组
+     */
+    private static Map<byte[], byte[]> copyKeys(Map<byte[], byte[]> map) {
+        Map<byte[], byte[]> copy = new LinkedHashMap<>();
+        for (Map.Entry<byte[], byte[]> entry : map.entrySet()) {
+            copy.put(entry.getKey().clone(), entry.getValue());
+        }
+        return copy;
+    }
+
+    private static Map<String, String> strings(Map<byte[], byte[]> map) {
+        Map<String, String> strings = new LinkedHashMap<>();
+        for (Map.Entry<byte[], byte[]> entry : map.entrySet()) {
+            strings.put(new String(entry.getKey(), StandardCharsets.UTF_8), new String(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        return strings;
+    }
+}
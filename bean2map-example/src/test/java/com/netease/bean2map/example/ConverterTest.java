@@ -0,0 +1,118 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.EnumLookup;
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import com.netease.bean2map.codec.TypeUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ConverterTest {
+    private final IMapCodec<Product> codec = MapCodecRegister.getCodec(Product.class);
+
+    @Test
+    public void testConverters() {
+        Product product = new Product();
+        product.setCode("abc");
+        product.setPrice(new Money(1999));
+        product.setHistory(Arrays.asList(new Money(2999), null));
+
+        Map<String, Object> map = codec.code(product);
+        Assert.assertEquals("ABC", map.get("code"));
+        Assert.assertEquals(1999L, map.get("price"));
+        Assert.assertEquals(Arrays.asList(2999L, null), map.get("history"));
+        Assert.assertEquals(product, codec.decode(map));
+        Assert.assertEquals(map, codec.view(product));
+    }
+
+    @Test
+    public void testEnums() {
+        Product product = new Product();
+        product.setCategory(Product.Category.FOOD);
+        product.setRelated(Arrays.asList(Product.Category.TOY, null, Product.Category.BOOK));
+
+        Map<String, Object> map = codec.code(product);
+        Assert.assertEquals("FOOD", map.get("category"));
+        Assert.assertEquals(Arrays.asList(2, null, 0), map.get("related"));
+        Assert.assertEquals(product, codec.decode(map));
+
+        // 从Redis或数据库读到的字符串、数字
+        Map<String, Object> values = new HashMap<>();
+        values.put("category", "2");
+        values.put("related", Arrays.asList("FOOD", 0L, Product.Category.TOY));
+        product = codec.decode(values);
+        Assert.assertEquals(Product.Category.TOY, product.getCategory());
+        Assert.assertEquals(Arrays.asList(Product.Category.FOOD, Product.Category.BOOK, Product.Category.TOY),
+                product.getRelated());
+
+        for (Object invalid : new Object[]{"food", "3", -1, 1.0, "99999999999"}) {
+            values.put("category", invalid);
+            try {
+                codec.decode(values);
+                Assert.fail(String.valueOf(invalid));
+            } catch (ClassCastException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void testEnumLookup() {
+        EnumLookup<Product.Category> lookup = new EnumLookup<>(Product.Category.class);
+        Assert.assertSame(Product.Category.BOOK, lookup.byName("BOOK"));
+        Assert.assertSame(Product.Category.TOY, lookup.byOrdinal(2));
+        Assert.assertNull(lookup.byName("NONE"));
+        Assert.assertNull(lookup.byOrdinal(3));
+        Assert.assertNull(lookup.decode(""));
+        for (Object invalid : new Object[]{-4294967295L, 4294967297L, -1, (byte) 3}) {
+            try {
+                lookup.decode(invalid);
+                Assert.fail(String.valueOf(invalid));
+            } catch (ClassCastException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void testParseLong() {
+        Assert.assertEquals(Long.valueOf(Long.MIN_VALUE), TypeUtils.castToLong(String.valueOf(Long.MIN_VALUE)));
+        Assert.assertEquals(Long.valueOf(Long.MAX_VALUE), TypeUtils.castToLong("+" + Long.MAX_VALUE));
+        Assert.assertEquals(-12L, TypeUtils.longValue("-12"));
+        for (String invalid : new String[]{"-", "1.5", "9223372036854775808", "12a"}) {
+            try {
+                TypeUtils.castToLong(invalid);
+                Assert.fail(invalid);
+            } catch (ClassCastException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void testParseOtherNumbers() {
+        Assert.assertEquals(Integer.valueOf(Integer.MIN_VALUE), TypeUtils.castToInt(String.valueOf(Integer.MIN_VALUE)));
+        Assert.assertEquals(Integer.MAX_VALUE, TypeUtils.intValue(String.valueOf(Integer.MAX_VALUE)));
+        Assert.assertEquals(Short.valueOf((short) -32768), TypeUtils.castToShort("-32768"));
+        Assert.assertEquals(Byte.valueOf((byte) 127), TypeUtils.castToByte("+127"));
+        Assert.assertEquals(1.5f, TypeUtils.floatValue("1.5"), 0f);
+        Assert.assertEquals(-0.25d, TypeUtils.castToDouble("-0.25"), 0d);
+        assertCastFailure(() -> TypeUtils.castToInt("2147483648"));
+        assertCastFailure(() -> TypeUtils.intValue("12a"));
+        assertCastFailure(() -> TypeUtils.castToShort("32768"));
+        assertCastFailure(() -> TypeUtils.castToByte("-129"));
+        assertCastFailure(() -> TypeUtils.castToFloat("12a"));
+        assertCastFailure(() -> TypeUtils.floatValue("1.5.1"));
+        assertCastFailure(() -> TypeUtils.castToDouble("abc"));
+        assertCastFailure(() -> TypeUtils.doubleValue("-"));
+    }
+
+    private static void assertCastFailure(Runnable conversion) {
+        try {
+            conversion.run();
+            Assert.fail();
+        } catch (ClassCastException expected) {
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.DateFormat;
+import com.netease.bean2map.codec.DateFormatter;
+import com.netease.bean2map.codec.TypeUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+public class DateFormatterTest {
+
+    @Test
+    public void testSameAsSimpleDateFormat() throws ParseException {
+        Random random = new Random(42);
+        for (String zone : new String[]{"Asia/Shanghai", "America/New_York", "UTC", "Australia/Lord_Howe"}) {
+            TimeZone timeZone = TimeZone.getTimeZone(zone);
+            for (String pattern : new String[]{DateFormat.DATE, DateFormat.DATETIME}) {
+                DateFormatter formatter = new DateFormatter(pattern, timeZone);
+                SimpleDateFormat expected = new SimpleDateFormat(pattern);
+                expected.setTimeZone(timeZone);
+                for (int i = 0; i < 20000; i++) {
+                    Date date = new Date((long) (random.nextDouble() * 8000000000000L) - 2500000000000L);
+                    String text = expected.format(date);
+                    Assert.assertEquals(text, formatter.format(date));
+                    Assert.assertEquals(text, expected.parse(text), formatter.parse(text));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLenientAndStrict() throws ParseException {
+        DateFormatter formatter = new DateFormatter(DateFormat.DATE);
+        SimpleDateFormat expected = new SimpleDateFormat(DateFormat.DATE);
+        Assert.assertEquals(expected.parse("2020-02-30"), formatter.parse("2020-02-30"));
+        try {
+            formatter.parse("2020-02-01 12:00:00");
+            Assert.fail();
+        } catch (ParseException e) {
+            // 需要完整匹配
+        }
+    }
+
+    @Test
+    public void testCastToDate() throws ParseException {
+        Assert.assertEquals(new SimpleDateFormat(DateFormat.DATETIME).parse("2021-03-04 05:06:07"),
+                TypeUtils.castToDate("2021-03-04 05:06:07"));
+        Assert.assertEquals(new SimpleDateFormat("yyyy/MM/dd").parse("2021/03/04"),
+                TypeUtils.castToDate("2021/03/04", new DateFormatter("yyyy/MM/dd")));
+        Assert.assertEquals(new Date(1000L), TypeUtils.castToDate("1000", new DateFormatter("yyyy/MM/dd")));
+    }
+}
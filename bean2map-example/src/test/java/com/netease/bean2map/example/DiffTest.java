@@ -0,0 +1,57 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class DiffTest {
+    private final IMapCodec<Employee> codec = MapCodecRegister.getCodec(Employee.class);
+    private final IMapCodec<Metrics> metricsCodec = MapCodecRegister.getCodec(Metrics.class);
+
+    @Test
+    public void testDiffAndPatch() {
+        Employee before = NestedTest.employee(1);
+        Employee after = NestedTest.employee(1);
+        Assert.assertSame(Collections.emptyMap(), codec.diff(before, after));
+
+        after.setName(null);
+        after.setBirthday(NestedTest.employee(2).getBirthday());
+        Map<String, Object> changes = codec.diff(before, after);
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("name", null);
+        expected.put("birthday", "1990-01-02");
+        Assert.assertEquals(expected, changes);
+
+        Assert.assertEquals(after, codec.patch(before, changes));
+        Assert.assertTrue(codec.diff(before, after).isEmpty());
+    }
+
+    @Test
+    public void testPrimitiveDiff() {
+        Metrics before = new Metrics();
+        before.setMean(Double.NaN);
+        Metrics after = new Metrics();
+        after.setMean(Double.NaN);
+        Assert.assertTrue(metricsCodec.diff(before, after).isEmpty());
+
+        after.setCount(3L);
+        Assert.assertEquals(Collections.singletonMap("count", 3L), metricsCodec.diff(before, after));
+    }
+
+    @Test
+    public void testDecodeInto() {
+        Employee target = NestedTest.employee(1);
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", 2);
+        map.put("name", null);
+        Assert.assertSame(target, codec.decodeInto(map, target));
+        Assert.assertEquals(Long.valueOf(2), target.getId());
+        Assert.assertEquals("e1", target.getName());
+        Assert.assertEquals(NestedTest.employee(1).getBirthday(), target.getBirthday());
+    }
+}
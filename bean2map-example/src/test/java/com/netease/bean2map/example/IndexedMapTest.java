@@ -0,0 +1,84 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+public class IndexedMapTest {
+    private final IMapCodec<Simple> codec = MapCodecRegister.getCodec(Simple.class);
+
+    private Simple simple() {
+        Simple simple = new Simple();
+        simple.setId("111");
+        simple.setGoods(Collections.singletonMap("bbb", 111));
+        simple.setRules(Collections.singletonList("test"));
+        simple.setValid(true);
+        return simple;
+    }
+
+    @Test
+    public void testMapContract() {
+        Map<String, Object> map = codec.code(simple());
+        Map<String, Object> expected = new HashMap<>(map);
+        Assert.assertEquals(4, map.size());
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+        Assert.assertFalse(map.containsKey("name"));
+        Assert.assertEquals("111", map.get("id"));
+
+        map.put("name", null);
+        Assert.assertTrue(map.containsKey("name"));
+        Assert.assertNull(map.get("name"));
+        map.put("other", 1);
+        Assert.assertEquals(6, map.size());
+        Assert.assertEquals(1, map.remove("other"));
+        Assert.assertNull(map.remove("name"));
+        Assert.assertEquals(expected, map);
+
+        Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Object> entry = iterator.next();
+            if ("id".equals(entry.getKey())) {
+                iterator.remove();
+            } else if ("valid".equals(entry.getKey())) {
+                entry.setValue(false);
+            }
+        }
+        Assert.assertEquals(3, map.size());
+        Assert.assertFalse(map.containsKey("id"));
+        Assert.assertEquals(false, map.get("valid"));
+
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testFilter() {
+        Map<String, Object> source = new HashMap<>(codec.code(simple()));
+        source.put("unknown", 1);
+        Map<String, Object> filtered = codec.filter(source);
+        source.remove("unknown");
+        Assert.assertEquals(source, filtered);
+    }
+
+    @Test
+    public void testCodeToSinkAndTarget() {
+        Simple simple = simple();
+        Map<String, Object> expected = codec.code(simple);
+        Map<String, Object> sunk = new HashMap<>();
+        codec.code(simple, sunk::put);
+        Assert.assertEquals(expected, sunk);
+
+        Map<String, Object> target = new HashMap<>();
+        target.put("id", "stale");
+        Assert.assertSame(target, codec.code(simple, target));
+        Assert.assertEquals(expected, target);
+    }
+}
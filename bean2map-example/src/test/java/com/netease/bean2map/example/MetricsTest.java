@@ -0,0 +1,79 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.CodecMetrics;
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import com.netease.bean2map.codec.PropertySink;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class MetricsTest {
+    @Test
+    public void testMeteredCodec() throws Exception {
+        IMapCodec<Employee> codec = CodecMetrics.meter(Employee.class, MapCodecRegister.getCodec(Employee.class));
+        CodecMetrics metrics = CodecMetrics.of(Employee.class);
+        metrics.reset();
+
+        Map<String, Object> map = codec.code(NestedTest.employee(1));
+        Assert.assertEquals(NestedTest.employee(1), codec.decode(map));
+        codec.filter(map);
+        try {
+            codec.decode(Collections.singletonMap("id", new Object()));
+            Assert.fail();
+        } catch (ClassCastException expected) {
+        }
+
+        Assert.assertEquals(1, metrics.getCodeCount());
+        Assert.assertEquals(3, metrics.getCodeOutputSize());
+        Assert.assertEquals(1, metrics.getDecodeCount());
+        Assert.assertEquals(1, metrics.getFilterCount());
+        Assert.assertEquals(1, metrics.getCastFailures());
+        long total = 0;
+        for (long count : metrics.getCodeLatencyHistogram()) {
+            total += count;
+        }
+        Assert.assertEquals(1, total);
+
+        ObjectName name = new ObjectName("com.netease.bean2map:type=CodecMetrics,name=" + ObjectName.quote(Employee.class.getName()));
+        Assert.assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "CodeCount"));
+    }
+
+    @Test
+    public void testWriteCountedSeparately() {
+        IMapCodec<Employee> codec = CodecMetrics.meter(Employee.class, MapCodecRegister.getCodec(Employee.class));
+        Assert.assertSame(codec, CodecMetrics.meter(Employee.class, MapCodecRegister.getCodec(Employee.class)));
+        CodecMetrics metrics = CodecMetrics.of(Employee.class);
+        metrics.reset();
+
+        codec.code(NestedTest.employee(1));
+        codec.codeToBytes(NestedTest.employee(1));
+        codec.writeTo(NestedTest.employee(1), ByteBuffer.allocate(256));
+        codec.code(NestedTest.employee(1), (PropertySink) (key, value) -> {
+        });
+
+        Assert.assertEquals(1, metrics.getCodeCount());
+        Assert.assertEquals(3, metrics.getCodeOutputSize());
+        Assert.assertEquals(3, metrics.getWriteCount());
+    }
+
+    @Test
+    public void testReusedTarget() {
+        IMapCodec<Employee> codec = CodecMetrics.meter(Employee.class, MapCodecRegister.getCodec(Employee.class));
+        CodecMetrics metrics = CodecMetrics.of(Employee.class);
+        metrics.reset();
+
+        Map<String, Object> target = new HashMap<>();
+        target.put("other", 1);
+        codec.code(NestedTest.employee(1), target);
+        Assert.assertEquals(4, target.size());
+        Assert.assertEquals(1, metrics.getCodeCount());
+        Assert.assertEquals(3, metrics.getCodeOutputSize());
+    }
+}
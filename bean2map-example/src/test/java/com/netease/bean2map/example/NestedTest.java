@@ -0,0 +1,82 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class NestedTest {
+    private final IMapCodec<Department> codec = MapCodecRegister.getCodec(Department.class);
+
+    static Employee employee(long id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName("e" + id);
+        employee.setBirthday(new java.util.GregorianCalendar(1990, 0, (int) id).getTime());
+        return employee;
+    }
+
+    @Test
+    public void testNested() {
+        Department root = new Department();
+        root.setName("root");
+        Department department = new Department();
+        department.setName("dev");
+        department.setLeader(employee(1));
+        department.setParent(root);
+
+        Map<String, Object> map = codec.code(department);
+        Assert.assertTrue(map.get("leader") instanceof Map);
+        Assert.assertEquals("1990-01-01", ((Map<?, ?>) map.get("leader")).get("birthday"));
+        Assert.assertEquals("root", ((Map<?, ?>) map.get("parent")).get("name"));
+        Assert.assertEquals(department, codec.decode(map));
+        Assert.assertEquals(map, codec.view(department));
+    }
+
+    @Test
+    public void testDecodeBeanValue() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("leader", employee(2));
+        Assert.assertEquals(employee(2), codec.decode(map).getLeader());
+    }
+
+    @Test
+    public void testContainers() {
+        Department department = new Department();
+        department.setMembers(Arrays.asList(employee(1), null, employee(2)));
+        department.setEmployees(Collections.singletonMap("boss", employee(3)));
+        department.setProjectIds(new HashSet<>(Arrays.asList(1L, 2L)));
+
+        Map<String, Object> map = codec.code(department);
+        List<?> members = (List<?>) map.get("members");
+        Assert.assertEquals("1990-01-02", ((Map<?, ?>) members.get(2)).get("birthday"));
+        Assert.assertNull(members.get(1));
+        Assert.assertTrue(((Map<?, ?>) map.get("employees")).get("boss") instanceof Map);
+        Assert.assertEquals(department, codec.decode(map));
+    }
+
+    @Test
+    public void testDecodeContainerElements() {
+        Map<String, Object> leader = new HashMap<>();
+        leader.put("id", 5);
+        leader.put("birthday", "1990-01-05");
+        Map<String, Object> map = new HashMap<>();
+        map.put("members", Collections.singletonList(leader));
+        map.put("employees", Collections.singletonMap("boss", leader));
+        map.put("projectIds", Arrays.asList(1, "2", 2L));
+
+        Department department = codec.decode(map);
+        Assert.assertEquals(Long.valueOf(5), department.getMembers().get(0).getId());
+        Assert.assertEquals(employee(5).getBirthday(), department.getEmployees().get("boss").getBirthday());
+        Set<Long> projectIds = department.getProjectIds();
+        Assert.assertEquals(new HashSet<>(Arrays.asList(1L, 2L)), projectIds);
+    }
+}
@@ -0,0 +1,122 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import com.netease.bean2map.codec.PrimitiveSink;
+import com.netease.bean2map.codec.PrimitiveSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class PrimitiveTest {
+    private final IMapCodec<Metrics> codec = MapCodecRegister.getCodec(Metrics.class);
+
+    private Metrics metrics() {
+        Metrics metrics = new Metrics();
+        metrics.setName("qps");
+        metrics.setCount(100L);
+        metrics.setMean(1.5d);
+        metrics.setErrors(3);
+        metrics.setAlive(true);
+        return metrics;
+    }
+
+    @Test
+    public void testPrimitiveSink() {
+        Map<String, Object> boxed = new HashMap<>();
+        Map<String, Object> primitives = new HashMap<>();
+        codec.code(metrics(), new PrimitiveSink() {
+            @Override
+            public void put(String key, Object value) {
+                boxed.put(key, value);
+            }
+
+            @Override
+            public void putLong(String key, long value) {
+                primitives.put(key, value);
+            }
+
+            @Override
+            public void putDouble(String key, double value) {
+                primitives.put(key, value);
+            }
+
+            @Override
+            public void putInt(String key, int value) {
+                primitives.put(key, value);
+            }
+
+            @Override
+            public void putBoolean(String key, boolean value) {
+                primitives.put(key, value);
+            }
+        });
+        Assert.assertEquals(1, boxed.size());
+        Assert.assertEquals("qps", boxed.get("name"));
+        Assert.assertEquals(4, primitives.size());
+        primitives.putAll(boxed);
+        Assert.assertEquals(codec.code(metrics()), primitives);
+    }
+
+    @Test
+    public void testPrimitiveSource() {
+        Metrics metrics = codec.decode(new PrimitiveSource() {
+            @Override
+            public Object get(String key) {
+                return "name".equals(key) ? "qps" : null;
+            }
+
+            @Override
+            public boolean contains(String key) {
+                return !"alive".equals(key);
+            }
+
+            @Override
+            public long getLong(String key) {
+                return 100L;
+            }
+
+            @Override
+            public double getDouble(String key) {
+                return 1.5d;
+            }
+
+            @Override
+            public int getInt(String key) {
+                return 3;
+            }
+        });
+        Assert.assertEquals("qps", metrics.getName());
+        Assert.assertEquals(100L, metrics.getCount());
+        Assert.assertEquals(1.5d, metrics.getMean(), 0d);
+        Assert.assertEquals(3, metrics.getErrors());
+        Assert.assertFalse(metrics.isAlive());
+    }
+
+    @Test
+    public void testDecodeFromStrings() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("count", "100");
+        map.put("mean", "1.5");
+        map.put("errors", 3L);
+        map.put("alive", "true");
+        Metrics metrics = codec.decode(map);
+        Assert.assertEquals(100L, metrics.getCount());
+        Assert.assertEquals(1.5d, metrics.getMean(), 0d);
+        Assert.assertEquals(3, metrics.getErrors());
+        Assert.assertTrue(metrics.isAlive());
+        Assert.assertEquals(100L, codec.decode(codec.view(metrics)::get).getCount());
+    }
+
+    @Test
+    public void testHandWrittenPrimitiveSource() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("n", "p");
+        map.put("c", 3);
+        RuntimeCodecTest.Plain plain = new AccessorTest.PlainCodec().decode(map::get);
+        Assert.assertEquals("p", plain.getName());
+        Assert.assertEquals(3, plain.getCount());
+    }
+}
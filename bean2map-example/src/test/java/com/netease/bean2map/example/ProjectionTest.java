@@ -0,0 +1,45 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import com.netease.bean2map.codec.Projection;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ProjectionTest {
+    private final IMapCodec<Employee> codec = MapCodecRegister.getCodec(Employee.class);
+
+    @Test
+    public void testProjection() {
+        Projection<Employee> projection = codec.projection("birthday", "id");
+        Employee employee = NestedTest.employee(1);
+        Map<String, Object> full = codec.code(employee);
+
+        Map<String, Object> map = projection.code(employee);
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals(Arrays.asList("birthday", "id"), new ArrayList<>(map.keySet()));
+        Assert.assertEquals(full.get("birthday"), map.get("birthday"));
+        Assert.assertEquals(full.get("id"), map.get("id"));
+
+        Map<String, Object> sunk = new HashMap<>();
+        projection.code(employee, sunk::put);
+        Assert.assertEquals(map, sunk);
+
+        employee.setId(null);
+        Assert.assertFalse(projection.code(employee).containsKey("id"));
+        List<Map<String, Object>> all = projection.codeAll(Arrays.asList(employee, null));
+        Assert.assertEquals(1, all.get(0).size());
+        Assert.assertNull(all.get(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownProperty() {
+        codec.projection("id", "unknown");
+    }
+}
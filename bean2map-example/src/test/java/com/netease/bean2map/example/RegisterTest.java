@@ -0,0 +1,51 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.CodecIndex;
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+public class RegisterTest {
+    static class ProxyEmployee extends Employee {
+    }
+
+    @Test
+    public void testSubclassFallback() {
+        IMapCodec<ProxyEmployee> codec = MapCodecRegister.getCodec(ProxyEmployee.class);
+        Assert.assertSame(MapCodecRegister.getCodec(Employee.class), codec);
+        Assert.assertSame(codec, MapCodecRegister.getCodec(ProxyEmployee.class));
+
+        ProxyEmployee employee = new ProxyEmployee();
+        employee.setId(1L);
+        Map<String, Object> map = codec.code(employee);
+        Assert.assertEquals(1L, map.get("id"));
+    }
+
+    @Test
+    public void testMissing() {
+        Assert.assertNull(MapCodecRegister.getCodec(String.class));
+    }
+
+    @Test
+    public void testWarmUp() {
+        Assert.assertTrue(MapCodecRegister.warmUp() >= 4);
+        Assert.assertNotNull(MapCodecRegister.getCodec(Department.class));
+    }
+
+    @Test
+    public void testGeneratedIndex() {
+        Iterator<CodecIndex> iterator = ServiceLoader.load(CodecIndex.class).iterator();
+        Assert.assertTrue(iterator.hasNext());
+        CodecIndex index = iterator.next();
+        Assert.assertTrue(Arrays.asList(index.names()).contains(Employee.class.getName()));
+        Assert.assertTrue(index.codec(Employee.class) instanceof Employee_MapCodec);
+        Assert.assertNull(index.codec(ProxyEmployee.class));
+        Assert.assertNull(index.codec(String.class));
+    }
+}
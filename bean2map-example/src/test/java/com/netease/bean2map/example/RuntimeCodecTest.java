@@ -0,0 +1,129 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import com.netease.bean2map.codec.RuntimeCodec;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+public class RuntimeCodecTest {
+    public static class Plain {
+        private String name;
+        private int count;
+        private Long total;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public Long getTotal() {
+            return total;
+        }
+
+        public void setTotal(Long total) {
+            this.total = total;
+        }
+    }
+
+    @Test
+    public void testRuntimeCodec() {
+        IMapCodec<Plain> codec = MapCodecRegister.getOrCreateCodec(Plain.class);
+        Assert.assertTrue(codec instanceof RuntimeCodec);
+        Assert.assertSame(codec, MapCodecRegister.getOrCreateCodec(Plain.class));
+        Assert.assertNull(MapCodecRegister.getCodec(Plain.class));
+
+        Plain plain = new Plain();
+        plain.setName("a");
+        plain.setCount(3);
+        Map<String, Object> map = codec.code(plain);
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals(3, map.get("count"));
+        Assert.assertEquals(map, codec.view(plain));
+
+        Map<String, Object> source = new HashMap<>();
+        source.put("count", "5");
+        source.put("total", 6);
+        Plain decoded = codec.decode(source);
+        Assert.assertEquals(5, decoded.getCount());
+        Assert.assertEquals(Long.valueOf(6), decoded.getTotal());
+        Assert.assertTrue(codec.set(decoded, "name", "b"));
+        Assert.assertEquals("b", codec.get(decoded, "name"));
+    }
+
+    @Test
+    public void testGeneratedPreferred() {
+        Assert.assertSame(MapCodecRegister.getCodec(Employee.class), MapCodecRegister.getOrCreateCodec(Employee.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testChildClassLoader() throws Exception {
+        Class<Object> type = (Class<Object>) new ChildLoader(Plain.class).loadClass(Plain.class.getName());
+        Assert.assertNotSame(Plain.class, type);
+        IMapCodec<Object> codec = RuntimeCodec.create(type);
+
+        Map<String, Object> source = new HashMap<>();
+        source.put("name", "c");
+        source.put("count", "4");
+        Object decoded = codec.decode(source);
+        Assert.assertSame(type, decoded.getClass());
+        Map<String, Object> map = codec.code(decoded);
+        Assert.assertEquals("c", map.get("name"));
+        Assert.assertEquals(4, map.get("count"));
+    }
+
+    /**
+     * 自行定义指定的类，模拟webapp中对框架classloader不可见的javabean
+     */
+    private static final class ChildLoader extends ClassLoader {
+        private final Class<?> type;
+
+        ChildLoader(Class<?> type) {
+            super(type.getClassLoader());
+            this.type = type;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(type.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[4096];
+                    int read;
+                    while ((read = in.read(buffer)) > 0) {
+                        out.write(buffer, 0, read);
+                    }
+                    byte[] bytes = out.toByteArray();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+}
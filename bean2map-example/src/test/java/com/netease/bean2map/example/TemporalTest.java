@@ -0,0 +1,161 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.DateFormat;
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import com.netease.bean2map.codec.TemporalFormatter;
+import com.netease.bean2map.codec.TypeUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+public class TemporalTest {
+    private final IMapCodec<Payment> codec = MapCodecRegister.getCodec(Payment.class);
+
+    @Test
+    public void testCodec() {
+        Payment payment = new Payment();
+        payment.setId(UUID.randomUUID());
+        payment.setAmount(new BigDecimal("12.50"));
+        payment.setCreateTime(LocalDateTime.of(2014, 3, 22, 10, 15, 30));
+        payment.setBillDate(LocalDate.of(2014, 3, 31));
+        payment.setPaidAt(Instant.ofEpochMilli(1395454530123L));
+        payment.setUpdateTime(LocalDateTime.of(2014, 3, 22, 10, 15, 30, 5000));
+        payment.setDueDates(Arrays.asList(LocalDate.of(2014, 4, 1), null));
+
+        Map<String, Object> map = codec.code(payment);
+        Assert.assertEquals(payment.getId(), map.get("id"));
+        Assert.assertEquals(new BigDecimal("12.50"), map.get("amount"));
+        Assert.assertEquals("2014-03-22 10:15:30", map.get("createTime"));
+        Assert.assertEquals("2014-03-31", map.get("billDate"));
+        Assert.assertEquals(1395454530123L, map.get("paidAt"));
+        Assert.assertEquals(payment.getUpdateTime(), map.get("updateTime"));
+        Assert.assertEquals(Arrays.asList("2014/04/01", null), map.get("dueDates"));
+        Assert.assertEquals(payment, codec.decode(map));
+        Assert.assertEquals(map, codec.view(payment));
+    }
+
+    @Test
+    public void testDateWithDefaultPattern() {
+        Payment payment = new Payment();
+        payment.setSettleDate(LocalDate.of(2014, 3, 31));
+        Map<String, Object> map = codec.code(payment);
+        Assert.assertEquals("2014-03-31 00:00:00", map.get("settleDate"));
+        Assert.assertEquals(map, codec.view(payment));
+        Assert.assertEquals(payment, codec.decode(map));
+        Assert.assertEquals(payment, codec.decodeFromBytes(codec.codeToBytes(payment)));
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.writeTo(payment, buffer);
+        buffer.flip();
+        Assert.assertEquals(payment, codec.readFrom(buffer));
+
+        TemporalFormatter formatter = new TemporalFormatter("yyyy/MM/dd HH:mm");
+        Assert.assertEquals("2014/03/31 00:00", formatter.format(LocalDate.of(2014, 3, 31)));
+        Assert.assertEquals(LocalDate.of(2014, 3, 31), formatter.parseLocalDate("2014/03/31 10:00"));
+    }
+
+    @Test
+    public void testDecodeStrings() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", "123e4567-e89b-12d3-a456-426614174000");
+        map.put("amount", "0.1");
+        map.put("createTime", "2014-03-22T10:15:30");
+        map.put("billDate", "2014-03-31 08:00:00");
+        map.put("paidAt", "2014-03-22T02:15:30.123Z");
+        map.put("updateTime", 0L);
+
+        Payment payment = codec.decode(map);
+        Assert.assertEquals(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), payment.getId());
+        Assert.assertEquals(new BigDecimal("0.1"), payment.getAmount());
+        Assert.assertEquals(LocalDateTime.of(2014, 3, 22, 10, 15, 30), payment.getCreateTime());
+        Assert.assertEquals(LocalDate.of(2014, 3, 31), payment.getBillDate());
+        Assert.assertEquals(Instant.ofEpochMilli(1395454530123L), payment.getPaidAt());
+        Assert.assertEquals(LocalDateTime.ofInstant(Instant.EPOCH, ZoneId.systemDefault()), payment.getUpdateTime());
+    }
+
+    @Test
+    public void testCasts() {
+        Assert.assertEquals(BigDecimal.valueOf(0.1), TypeUtils.castToBigDecimal(0.1d));
+        Assert.assertEquals(BigDecimal.valueOf(7), TypeUtils.castToBigDecimal(7));
+        Assert.assertEquals(LocalDate.of(2014, 3, 22), TypeUtils.castToLocalDate("2014-03-22"));
+        Assert.assertEquals(Instant.parse("2014-03-22T10:15:30Z"), TypeUtils.castToInstant("2014-03-22T10:15:30Z"));
+        for (Object invalid : new Object[]{"abc", "2014-13-01", "1.5e", "123e4567-e89b-12d3-a456-42661417400g"}) {
+            for (Class<?> type : new Class<?>[]{LocalDateTime.class, LocalDate.class, Instant.class, BigDecimal.class, UUID.class}) {
+                try {
+                    cast(type, invalid);
+                    Assert.fail(type + ":" + invalid);
+                } catch (ClassCastException expected) {
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSameAsDateTimeFormatter() {
+        Random random = new Random(42);
+        for (String pattern : new String[]{DateFormat.DATE, DateFormat.DATETIME}) {
+            TemporalFormatter formatter = new TemporalFormatter(pattern);
+            DateTimeFormatter expected = DateTimeFormatter.ofPattern(pattern);
+            for (int i = 0; i < 20000; i++) {
+                LocalDateTime dateTime = LocalDateTime.ofEpochSecond(random.nextInt() * 8L, 0, ZoneOffset.UTC);
+                String text = expected.format(dateTime);
+                Assert.assertEquals(text, formatter.format(dateTime));
+                Assert.assertEquals(text, expected.format(formatter.parseLocalDateTime(text)));
+            }
+        }
+        TemporalFormatter date = new TemporalFormatter(DateFormat.DATE);
+        Assert.assertEquals(DateTimeFormatter.ofPattern(DateFormat.DATE).parse("2020-02-30", LocalDate::from),
+                date.parseLocalDate("2020-02-30"));
+    }
+
+    @Test
+    public void testYearBoundary() {
+        for (String pattern : new String[]{DateFormat.DATE, DateFormat.DATETIME}) {
+            TemporalFormatter formatter = new TemporalFormatter(pattern);
+            DateTimeFormatter expected = DateTimeFormatter.ofPattern(pattern);
+            for (int year : new int[]{-1, 0, 1, 9999, 10000}) {
+                LocalDateTime dateTime = LocalDateTime.of(year, 1, 1, 0, 0);
+                Assert.assertEquals(expected.format(dateTime), formatter.format(dateTime));
+                Assert.assertEquals(expected.format(dateTime), formatter.format(dateTime.toLocalDate()));
+            }
+            String text = pattern.equals(DateFormat.DATE) ? "0000-01-01" : "0000-01-01 00:00:00";
+            try {
+                expected.parse(text, LocalDateTime::from);
+                Assert.fail();
+            } catch (DateTimeException ignored) {
+            }
+            try {
+                formatter.parseLocalDateTime(text);
+                Assert.fail(text);
+            } catch (DateTimeException expectedFailure) {
+            }
+        }
+    }
+
+    private static Object cast(Class<?> type, Object value) {
+        if (type == LocalDateTime.class) {
+            return TypeUtils.castToLocalDateTime(value);
+        } else if (type == LocalDate.class) {
+            return TypeUtils.castToLocalDate(value);
+        } else if (type == Instant.class) {
+            return TypeUtils.castToInstant(value);
+        } else if (type == BigDecimal.class) {
+            return TypeUtils.castToBigDecimal(value);
+        }
+        return TypeUtils.castToUUID(value);
+    }
+}
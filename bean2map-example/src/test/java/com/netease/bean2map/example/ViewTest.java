@@ -0,0 +1,39 @@
+package com.netease.bean2map.example;
+
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+
+public class ViewTest {
+    private final IMapCodec<Simple> codec = MapCodecRegister.getCodec(Simple.class);
+
+    @Test
+    public void testView() {
+        Simple simple = new Simple();
+        simple.setId("111");
+        simple.setCreateTime(new Date(1000L));
+        Map<String, Object> view = codec.view(simple);
+        Assert.assertEquals(codec.code(simple), view);
+        Assert.assertEquals(1000L, view.get("createTime"));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("id", "createTime", "valid")), view.keySet());
+
+        simple.setRules(Collections.singletonList("test"));
+        simple.setId(null);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("rules", "createTime", "valid")), view.keySet());
+        Assert.assertFalse(view.containsKey("id"));
+        Assert.assertNull(view.get("unknown"));
+        Assert.assertEquals(codec.code(simple), view);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReadOnly() {
+        codec.view(new Simple()).put("id", "111");
+    }
+}
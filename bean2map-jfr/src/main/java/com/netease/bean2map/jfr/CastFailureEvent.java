@@ -0,0 +1,31 @@
+package com.netease.bean2map.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 属性值无法转换为setter参数类型，由开启bean2map.jfr选项生成的codec记录
+ */
+@Name("com.netease.bean2map.CastFailure")
+@Label("Map Cast Failure")
+@Category("bean2map")
+@Description("Property value can not be cast to the setter type")
+public class CastFailureEvent extends Event {
+    @Label("Entity Class")
+    public Class<?> entityClass;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Property Count")
+    public int propertyCount;
+
+    @Label("Property")
+    public String property;
+
+    @Label("Message")
+    public String message;
+}
@@ -0,0 +1,31 @@
+package com.netease.bean2map.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 耗时超过阈值的转换，由开启bean2map.jfr选项生成的codec记录
+ * <p>
+ * 阈值可在JFR配置中通过com.netease.bean2map.Conversion#threshold修改
+ */
+@Name("com.netease.bean2map.Conversion")
+@Label("Map Conversion")
+@Category("bean2map")
+@Description("Slow javabean/map conversion")
+@Threshold("1 ms")
+@StackTrace(false)
+public class ConversionEvent extends Event {
+    @Label("Entity Class")
+    public Class<?> entityClass;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Property Count")
+    public int propertyCount;
+}
@@ -0,0 +1,41 @@
+package com.netease.bean2map.jfr;
+
+import com.netease.bean2map.codec.DateFormat;
+import com.netease.bean2map.codec.MapCodec;
+
+import java.util.Date;
+
+/**
+ * 测试编译时开启了-Abean2map.jfr=true
+ */
+@MapCodec
+public class Account {
+    private Long id;
+    private String name;
+    @DateFormat(pattern = DateFormat.DATE)
+    private Date birthday;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Date getBirthday() {
+        return birthday;
+    }
+
+    public void setBirthday(Date birthday) {
+        this.birthday = birthday;
+    }
+}
@@ -0,0 +1,60 @@
+package com.netease.bean2map.jfr;
+
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.MapCodecRegister;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+public class JfrTest {
+    private final IMapCodec<Account> codec = MapCodecRegister.getCodec(Account.class);
+
+    @Test
+    public void testEvents() throws Exception {
+        File file = File.createTempFile("bean2map", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.netease.bean2map.Conversion").withThreshold(Duration.ZERO);
+            recording.enable("com.netease.bean2map.CastFailure");
+            recording.start();
+            Account account = new Account();
+            account.setId(1L);
+            account.setName("a");
+            account.setBirthday(new Date());
+            codec.code(account);
+            try {
+                codec.decode(Collections.singletonMap("birthday", new Object()));
+                Assert.fail();
+            } catch (ClassCastException expected) {
+            }
+            recording.stop();
+            recording.dump(file.toPath());
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file.toPath());
+            RecordedEvent conversion = find(events, "com.netease.bean2map.Conversion");
+            Assert.assertEquals("code", conversion.getString("operation"));
+            Assert.assertEquals(3, conversion.getInt("propertyCount"));
+            Assert.assertEquals(Account.class.getName(), conversion.getClass("entityClass").getName());
+            RecordedEvent failure = find(events, "com.netease.bean2map.CastFailure");
+            Assert.assertEquals("birthday", failure.getString("property"));
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                return event;
+            }
+        }
+        throw new AssertionError("no event " + name);
+    }
+}
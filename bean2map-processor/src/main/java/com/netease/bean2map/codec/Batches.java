@@ -0,0 +1,75 @@
+package com.netease.bean2map.codec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * 批量转换的实现，并行时按输入顺序切分并保持输出顺序
+ */
+final class Batches {
+    /**
+     * 低于该数量时直接在调用线程中转换
+     */
+    static final int PARALLEL_THRESHOLD = 1024;
+    /**
+     * 每个任务最少处理的元素个数
+     */
+    private static final int MIN_CHUNK = 256;
+
+    private Batches() {
+    }
+
+    static <S, R> List<R> map(Collection<? extends S> source, Function<? super S, ? extends R> function) {
+        List<R> result = new ArrayList<>(source.size());
+        for (S element : source) {
+            result.add(element == null ? null : function.apply(element));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <S, R> List<R> parallelMap(Collection<? extends S> source, Function<? super S, ? extends R> function,
+                                      Executor executor) {
+        int size = source.size();
+        if (size < PARALLEL_THRESHOLD) {
+            return map(source, function);
+        }
+        Object[] input = source.toArray();
+        Object[] output = new Object[input.length];
+        int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        int chunks = Math.max(1, Math.min(parallelism * 4, input.length / MIN_CHUNK));
+        int chunkSize = (input.length + chunks - 1) / chunks;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+        for (int i = 0; i < chunks; i++) {
+            int from = i * chunkSize;
+            int to = Math.min(from + chunkSize, input.length);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                for (int j = from; j < to; j++) {
+                    Object element = input[j];
+                    output[j] = element == null ? null : function.apply((S) element);
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+        return (List<R>) Arrays.asList(output);
+    }
+}
@@ -0,0 +1,112 @@
+package com.netease.bean2map.codec;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * javabean的只读Map视图，每次读取都直接调用getter，不做任何拷贝
+ * <p>
+ * 与code()一致，值为null的属性不出现在视图中，keySet反映读取时刻非null的属性
+ *
+ * @param <T>
+ */
+public class BeanMapView<T> extends AbstractMap<String, Object> {
+    private final KeyIndex keys;
+    private final T entity;
+    private final PropertyReader<T> reader;
+    private transient Set<Entry<String, Object>> entrySet;
+
+    public BeanMapView(KeyIndex keys, T entity, PropertyReader<T> reader) {
+        this.keys = keys;
+        this.entity = entity;
+        this.reader = reader;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = keys.indexOf(key);
+        return index < 0 ? null : reader.read(entity, index);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            if (reader.read(entity, i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (int i = 0; i < keys.size(); i++) {
+            if (reader.read(entity, i) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> es = entrySet;
+        if (es == null) {
+            es = entrySet = new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return BeanMapView.this.size();
+                }
+            };
+        }
+        return es;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int index = -1;
+        private Object value;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            value = null;
+            while (++index < keys.size()) {
+                value = reader.read(entity, index);
+                if (value != null) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.size();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, Object> entry = new SimpleImmutableEntry<>(keys.key(index), value);
+            advance();
+            return entry;
+        }
+    }
+}
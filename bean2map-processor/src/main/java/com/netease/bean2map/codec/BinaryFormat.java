@@ -0,0 +1,486 @@
+package com.netease.bean2map.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@link IMapCodec#writeTo(Object, ByteBuffer)}使用的二进制格式
+ * <p>
+ * 头部为版本号、写出方属性的指纹、个数和最后至多{@value #TAIL_HASHES}个属性的16位哈希，之后每个属性依次写出下标+1、类型标记和值，
+ * 以0结束。null值不写出。基本类型不装箱直接写出，其余的值按code()的结果写出，读取后按decode()的规则转换。
+ * <p>
+ * 读取方的属性是写出方的前缀时(或者相反)可以互相读取，读取方不认识的下标被跳过，因此新增属性只能追加在末尾。
+ * 读取方属性更多时直接比较写出方的指纹，更少时用末尾属性的哈希由本地前缀推算写出方的指纹，
+ * 读取方落后超过{@value #TAIL_HASHES}个属性或指纹不一致时抛出IllegalArgumentException。
+ * <p>
+ * 下标按父类的属性在前排列，在父类中新增属性会改变所有子类属性的下标，之前写出的子类数据都无法再读取
+ */
+public final class BinaryFormat {
+    public static final byte VERSION = 3;
+    /**
+     * 头部携带哈希的末尾属性个数，即属性更少的读取方最多可以落后的属性个数
+     */
+    public static final int TAIL_HASHES = 8;
+
+    public static final byte TAG_NULL = 0;
+    public static final byte TAG_FALSE = 1;
+    public static final byte TAG_TRUE = 2;
+    public static final byte TAG_INT = 3;
+    public static final byte TAG_LONG = 4;
+    public static final byte TAG_FLOAT = 5;
+    public static final byte TAG_DOUBLE = 6;
+    public static final byte TAG_STRING = 7;
+    public static final byte TAG_DATE = 8;
+    public static final byte TAG_DECIMAL = 9;
+    public static final byte TAG_UUID = 10;
+    public static final byte TAG_BYTES = 11;
+    public static final byte TAG_LIST = 12;
+    public static final byte TAG_MAP = 13;
+
+    private BinaryFormat() {
+    }
+
+    public static void writeHeader(ByteBuffer buffer, PropertySchema schema) {
+        buffer.put(VERSION);
+        buffer.putInt(schema.fingerprint());
+        writeVarInt(buffer, schema.size());
+        for (int i = Math.max(0, schema.size() - TAIL_HASHES); i < schema.size(); i++) {
+            buffer.putShort(schema.hash(i));
+        }
+    }
+
+    /**
+     * 校验头部，写出方的属性与本地属性的公共前缀必须一致
+     *
+     * @param buffer
+     * @param schema 本地的属性
+     * @throws IllegalArgumentException 版本或指纹不一致，或者写出方比本地多出超过{@value #TAIL_HASHES}个属性时抛出
+     */
+    public static void readHeader(ByteBuffer buffer, PropertySchema schema) {
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unsupported binary version : " + version);
+        }
+        int fingerprint = buffer.getInt();
+        int size = readVarInt(buffer);
+        int from = Math.max(0, size - TAIL_HASHES);
+        int common = Math.min(size, schema.size());
+        // 写出方属性更多时，由本地前缀的指纹和写出方末尾属性的哈希推算写出方的指纹
+        int expect = schema.fingerprint(common);
+        for (int i = from; i < size; i++) {
+            short hash = buffer.getShort();
+            if (i >= common) {
+                expect = PropertySchema.extend(expect, hash);
+            }
+        }
+        if (from > common) {
+            throw new IllegalArgumentException("incompatible schema, size : " + size + ", local size : " + schema.size()
+                    + ", at most " + TAIL_HASHES + " properties can be appended");
+        }
+        if (expect != fingerprint) {
+            throw new IllegalArgumentException("incompatible schema, fingerprint : " + Integer.toHexString(fingerprint)
+                    + ", size : " + size + ", expect : " + Integer.toHexString(expect));
+        }
+    }
+
+    public static void writeEnd(ByteBuffer buffer) {
+        buffer.put((byte) 0);
+    }
+
+    /**
+     * @return 属性下标，读到结束标记时返回-1
+     */
+    public static int readOrdinal(ByteBuffer buffer) {
+        return readVarInt(buffer) - 1;
+    }
+
+    public static void writeInt(ByteBuffer buffer, int ordinal, int value) {
+        writeVarInt(buffer, ordinal + 1);
+        buffer.put(TAG_INT).putInt(value);
+    }
+
+    public static void writeLong(ByteBuffer buffer, int ordinal, long value) {
+        writeVarInt(buffer, ordinal + 1);
+        buffer.put(TAG_LONG).putLong(value);
+    }
+
+    public static void writeFloat(ByteBuffer buffer, int ordinal, float value) {
+        writeVarInt(buffer, ordinal + 1);
+        buffer.put(TAG_FLOAT).putFloat(value);
+    }
+
+    public static void writeDouble(ByteBuffer buffer, int ordinal, double value) {
+        writeVarInt(buffer, ordinal + 1);
+        buffer.put(TAG_DOUBLE).putDouble(value);
+    }
+
+    public static void writeBoolean(ByteBuffer buffer, int ordinal, boolean value) {
+        writeVarInt(buffer, ordinal + 1);
+        buffer.put(value ? TAG_TRUE : TAG_FALSE);
+    }
+
+    /**
+     * @param value code()输出的值
+     * @throws IllegalArgumentException 不支持的类型
+     */
+    public static void writeValue(ByteBuffer buffer, int ordinal, Object value) {
+        writeVarInt(buffer, ordinal + 1);
+        writeValue(buffer, value);
+    }
+
+    /**
+     * 类型与标记一致时直接读取，否则按TypeUtils的规则转换
+     */
+    public static int readInt(ByteBuffer buffer, byte tag) {
+        return tag == TAG_INT ? buffer.getInt() : TypeUtils.intValue(readValue(buffer, tag));
+    }
+
+    public static long readLong(ByteBuffer buffer, byte tag) {
+        return tag == TAG_LONG ? buffer.getLong() : TypeUtils.longValue(readValue(buffer, tag));
+    }
+
+    public static float readFloat(ByteBuffer buffer, byte tag) {
+        return tag == TAG_FLOAT ? buffer.getFloat() : TypeUtils.floatValue(readValue(buffer, tag));
+    }
+
+    public static double readDouble(ByteBuffer buffer, byte tag) {
+        return tag == TAG_DOUBLE ? buffer.getDouble() : TypeUtils.doubleValue(readValue(buffer, tag));
+    }
+
+    public static boolean readBoolean(ByteBuffer buffer, byte tag) {
+        if (tag == TAG_TRUE) {
+            return true;
+        }
+        return tag != TAG_FALSE && TypeUtils.booleanValue(readValue(buffer, tag));
+    }
+
+    /**
+     * byte、short读取为Integer，char和其他对象按toString()写出的读取为String
+     *
+     * @throws IllegalArgumentException 不支持的类型
+     */
+    static void writeValue(ByteBuffer buffer, Object value) {
+        if (value == null) {
+            buffer.put(TAG_NULL);
+        } else if (value instanceof String) {
+            buffer.put(TAG_STRING);
+            writeString(buffer, (String) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            buffer.put(TAG_INT).putInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            buffer.put(TAG_LONG).putLong((Long) value);
+        } else if (value instanceof Boolean) {
+            buffer.put((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Double) {
+            buffer.put(TAG_DOUBLE).putDouble((Double) value);
+        } else if (value instanceof Float) {
+            buffer.put(TAG_FLOAT).putFloat((Float) value);
+        } else if (value instanceof Date) {
+            buffer.put(TAG_DATE).putLong(((Date) value).getTime());
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            byte[] unscaled = decimal.unscaledValue().toByteArray();
+            buffer.put(TAG_DECIMAL).putInt(decimal.scale());
+            writeVarInt(buffer, unscaled.length);
+            buffer.put(unscaled);
+        } else if (value instanceof UUID) {
+            UUID uuid = (UUID) value;
+            buffer.put(TAG_UUID).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            buffer.put(TAG_BYTES);
+            writeVarInt(buffer, bytes.length);
+            buffer.put(bytes);
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            buffer.put(TAG_LIST);
+            writeVarInt(buffer, collection.size());
+            for (Object element : collection) {
+                writeValue(buffer, element);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            buffer.put(TAG_MAP);
+            writeVarInt(buffer, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(buffer, entry.getKey());
+                writeValue(buffer, entry.getValue());
+            }
+        } else if (value instanceof Character || value instanceof Enum || value instanceof CharSequence
+                || value instanceof TemporalAccessor) {
+            // 读取后由TypeUtils按字符串转换
+            buffer.put(TAG_STRING);
+            writeString(buffer, value instanceof Enum ? ((Enum<?>) value).name() : value.toString());
+        } else {
+            throw new IllegalArgumentException("unsupported type : " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * @param tag 已读取的类型标记
+     * @return 列表读取为ArrayList，Map读取为LinkedHashMap
+     * @throws IllegalArgumentException 未知的类型标记
+     */
+    public static Object readValue(ByteBuffer buffer, byte tag) {
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_INT:
+                return buffer.getInt();
+            case TAG_LONG:
+                return buffer.getLong();
+            case TAG_FLOAT:
+                return buffer.getFloat();
+            case TAG_DOUBLE:
+                return buffer.getDouble();
+            case TAG_STRING:
+                return readString(buffer);
+            case TAG_DATE:
+                return new Date(buffer.getLong());
+            case TAG_DECIMAL: {
+                int scale = buffer.getInt();
+                byte[] unscaled = new byte[readVarInt(buffer)];
+                buffer.get(unscaled);
+                return new BigDecimal(new BigInteger(unscaled), scale);
+            }
+            case TAG_UUID:
+                return new UUID(buffer.getLong(), buffer.getLong());
+            case TAG_BYTES: {
+                byte[] bytes = new byte[readVarInt(buffer)];
+                buffer.get(bytes);
+                return bytes;
+            }
+            case TAG_LIST: {
+                int size = readVarInt(buffer);
+                List<Object> list = new ArrayList<>(Math.min(size, buffer.remaining()));
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buffer, buffer.get()));
+                }
+                return list;
+            }
+            case TAG_MAP: {
+                int size = readVarInt(buffer);
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    Object key = readValue(buffer, buffer.get());
+                    map.put(key, readValue(buffer, buffer.get()));
+                }
+                return map;
+            }
+            default:
+                throw new IllegalArgumentException("unknown tag : " + tag);
+        }
+    }
+
+    /**
+     * 单个值按writeValue的格式写为字节，不带头部，用于{@link ByteValues}写出集合和嵌套的javabean
+     *
+     * @param value code()输出的值
+     * @return
+     * @throws IllegalArgumentException 不支持的类型
+     */
+    public static byte[] toBytes(Object value) {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        while (true) {
+            try {
+                writeValue(buffer, value);
+                break;
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * 读取toBytes()写出的值
+     *
+     * @param bytes
+     * @return 列表读取为ArrayList，Map读取为LinkedHashMap
+     * @throws ClassCastException 不是toBytes()写出的字节
+     */
+    public static Object fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            return readValue(buffer, buffer.get());
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            ClassCastException failure = new ClassCastException("illegal binary value");
+            failure.initCause(e);
+            throw failure;
+        }
+    }
+
+    /**
+     * 跳过不认识的属性，不创建对象
+     *
+     * @param tag 已读取的类型标记
+     */
+    public static void skip(ByteBuffer buffer, byte tag) {
+        switch (tag) {
+            case TAG_NULL:
+            case TAG_FALSE:
+            case TAG_TRUE:
+                break;
+            case TAG_INT:
+            case TAG_FLOAT:
+                position(buffer, 4);
+                break;
+            case TAG_LONG:
+            case TAG_DOUBLE:
+            case TAG_DATE:
+                position(buffer, 8);
+                break;
+            case TAG_UUID:
+                position(buffer, 16);
+                break;
+            case TAG_DECIMAL:
+                position(buffer, 4);
+                position(buffer, readVarInt(buffer));
+                break;
+            case TAG_STRING:
+            case TAG_BYTES:
+                position(buffer, readVarInt(buffer));
+                break;
+            case TAG_LIST: {
+                int size = readVarInt(buffer);
+                for (int i = 0; i < size; i++) {
+                    skip(buffer, buffer.get());
+                }
+                break;
+            }
+            case TAG_MAP: {
+                int size = readVarInt(buffer);
+                for (int i = 0; i < size * 2; i++) {
+                    skip(buffer, buffer.get());
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("unknown tag : " + tag);
+        }
+    }
+
+    private static void position(ByteBuffer buffer, int length) {
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * 无符号LEB128
+     */
+    static void writeVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    /**
+     * 长度+UTF-8，直接按字符写入buffer，不创建临时byte[]
+     */
+    static void writeString(ByteBuffer buffer, String value) {
+        int length = value.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                utf8Length = utf8Length(value, i, utf8Length);
+                break;
+            }
+        }
+        writeVarInt(buffer, utf8Length);
+        if (utf8Length == length) {
+            for (int i = 0; i < length; i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 与String.getBytes一致，不成对的代理字符写为'?'
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * @param from 第一个非ASCII字符的位置
+     * @param ascii 按全部为ASCII计算的长度
+     */
+    private static int utf8Length(String value, int from, int ascii) {
+        int length = ascii;
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                length += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                // 两个char共4字节
+                length += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                length += 2;
+            }
+        }
+        return length;
+    }
+
+    static String readString(ByteBuffer buffer) {
+        int length = readVarInt(buffer);
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + buffer.position();
+            position(buffer, length);
+            return new String(buffer.array(), offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
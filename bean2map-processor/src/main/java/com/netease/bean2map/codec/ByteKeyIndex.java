@@ -0,0 +1,68 @@
+package com.netease.bean2map.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link KeyIndex}中属性名的UTF-8字节，按字节内容查找下标，不创建String
+ */
+public final class ByteKeyIndex {
+    private final byte[][] keys;
+    /**
+     * 存放下标+1，0表示空槽
+     */
+    private final int[] table;
+    private final int mask;
+
+    public ByteKeyIndex(KeyIndex keyIndex) {
+        this.keys = new byte[keyIndex.size()][];
+        int capacity = Integer.highestOneBit(Math.max(keys.length, 1) * 2 - 1) << 1;
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyIndex.key(i).getBytes(StandardCharsets.UTF_8);
+            int slot = hash(keys[i]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    private static int hash(byte[] key) {
+        int h = Arrays.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * @param index 属性下标
+     * @return 共享的数组，不能修改
+     */
+    public byte[] key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * @param key UTF-8编码的属性名
+     * @return 不存在时返回-1
+     */
+    public int indexOf(byte[] key) {
+        if (key == null) {
+            return -1;
+        }
+        int slot = hash(key) & mask;
+        int index;
+        while ((index = table[slot]) != 0) {
+            byte[] candidate = keys[index - 1];
+            if (candidate == key || Arrays.equals(candidate, key)) {
+                return index - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,13 @@
+package com.netease.bean2map.codec;
+
+/**
+ * 接收编码为字节的属性，用于直接写入Redis hash等以byte[]为key和value的存储
+ */
+@FunctionalInterface
+public interface ByteSink {
+    /**
+     * @param key   UTF-8编码的属性名，由codec共享，不能修改
+     * @param value 编码后的属性值，非null
+     */
+    void put(byte[] key, byte[] value);
+}
@@ -0,0 +1,183 @@
+package com.netease.bean2map.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * 属性值与字节之间的转换，供{@link IMapCodec#codeToBytes(Object, ByteSink)}使用
+ * <p>
+ * 整数直接写为十进制ASCII字节，读取时直接从字节解析，不经过String；集合和嵌套的javabean按{@link BinaryFormat}写出；其余的值按UTF-8字符串处理
+ */
+public final class ByteValues {
+    private static final byte[] MIN_LONG = "-9223372036854775808".getBytes(StandardCharsets.ISO_8859_1);
+
+    private ByteValues() {
+    }
+
+    public static byte[] toBytes(int value) {
+        return toBytes((long) value);
+    }
+
+    public static byte[] toBytes(long value) {
+        if (value == Long.MIN_VALUE) {
+            return MIN_LONG.clone();
+        }
+        boolean negative = value < 0;
+        long remaining = negative ? -value : value;
+        int length = negative ? 2 : 1;
+        for (long v = remaining; v >= 10; v /= 10) {
+            length++;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = length - 1; i >= (negative ? 1 : 0); i--) {
+            bytes[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        if (negative) {
+            bytes[0] = '-';
+        }
+        return bytes;
+    }
+
+    public static byte[] toBytes(double value) {
+        return Double.toString(value).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    public static byte[] toBytes(float value) {
+        return Float.toString(value).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    public static byte[] toBytes(boolean value) {
+        return value ? new byte[]{'t', 'r', 'u', 'e'} : new byte[]{'f', 'a', 'l', 's', 'e'};
+    }
+
+    public static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 未格式化的Date写为毫秒时间戳，枚举写为name，byte[]返回副本，集合和Map(嵌套的javabean)按{@link BinaryFormat#toBytes(Object)}写出，其余按toString()
+     *
+     * @param value code()输出的值，非null
+     * @return
+     */
+    public static byte[] toBytes(Object value) {
+        if (value instanceof String) {
+            return toBytes((String) value);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return toBytes(((Number) value).longValue());
+        }
+        if (value instanceof Date) {
+            return toBytes(((Date) value).getTime());
+        }
+        if (value instanceof Enum) {
+            return toBytes(((Enum<?>) value).name());
+        }
+        if (value instanceof byte[]) {
+            // 不与javabean共享可变的数组
+            return ((byte[]) value).clone();
+        }
+        if (value instanceof Collection || value instanceof Map) {
+            return BinaryFormat.toBytes(value);
+        }
+        return toBytes(value.toString());
+    }
+
+    /**
+     * 读取toBytes(Object)写出的集合或Map
+     *
+     * @param bytes
+     * @return 集合读取为ArrayList，Map读取为LinkedHashMap
+     * @throws ClassCastException 不是BinaryFormat写出的字节
+     */
+    public static Object structuredValue(byte[] bytes) {
+        return BinaryFormat.fromBytes(bytes);
+    }
+
+    /**
+     * 属性值是否按BinaryFormat写出，即集合和Map类型；嵌套的javabean由生成的codec在{@link PropertySchema.Property#isStructured()}中标记
+     *
+     * @param type 属性类型
+     * @return
+     */
+    public static boolean isStructured(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    /**
+     * @param bytes UTF-8字节
+     * @return 空数组返回空字符串
+     */
+    public static String toString(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @throws ClassCastException 非整数或超出范围
+     */
+    public static int intValue(byte[] bytes) {
+        long value = longValue(bytes);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new ClassCastException("can not cast to int, value : " + toString(bytes));
+        }
+        return (int) value;
+    }
+
+    /**
+     * 直接按十进制解析，不经过String
+     *
+     * @throws ClassCastException 非整数或超出范围
+     */
+    public static long longValue(byte[] bytes) {
+        int length = bytes.length;
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (bytes[0] == '-' || bytes[0] == '+')) {
+            negative = bytes[0] == '-';
+            i = 1;
+        }
+        if (i == length || length - i > 19) {
+            throw new ClassCastException("can not cast to long, value : " + toString(bytes));
+        }
+        // 按负数累加，可以表示Long.MIN_VALUE
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9 || result < (Long.MIN_VALUE + digit) / 10) {
+                throw new ClassCastException("can not cast to long, value : " + toString(bytes));
+            }
+            result = result * 10 - digit;
+        }
+        if (!negative && result == Long.MIN_VALUE) {
+            throw new ClassCastException("can not cast to long, value : " + toString(bytes));
+        }
+        return negative ? result : -result;
+    }
+
+    public static float floatValue(byte[] bytes) {
+        return TypeUtils.floatValue(toString(bytes));
+    }
+
+    public static double doubleValue(byte[] bytes) {
+        return TypeUtils.doubleValue(toString(bytes));
+    }
+
+    /**
+     * true/1为true，false/0为false，与TypeUtils一致
+     */
+    public static boolean booleanValue(byte[] bytes) {
+        if (bytes.length == 1 && bytes[0] == '1') {
+            return true;
+        }
+        if (bytes.length == 4 && bytes[0] == 't' && bytes[1] == 'r' && bytes[2] == 'u' && bytes[3] == 'e') {
+            return true;
+        }
+        if (bytes.length == 5 && bytes[0] == 'f' && bytes[1] == 'a' && bytes[2] == 'l' && bytes[3] == 's' && bytes[4] == 'e') {
+            return false;
+        }
+        return TypeUtils.booleanValue(toString(bytes));
+    }
+}
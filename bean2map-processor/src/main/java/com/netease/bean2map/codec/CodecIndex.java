@@ -0,0 +1,23 @@
+package com.netease.bean2map.codec;
+
+/**
+ * 由注解处理器为每次编译生成的codec索引，直接new出codec，不依赖反射
+ * <p>
+ * 生成的索引通过{@link java.util.ServiceLoader}注册，也可以调用{@link MapCodecRegister#register(CodecIndex)}直接注册
+ */
+public interface CodecIndex {
+    /**
+     * 索引中的javabean类名
+     *
+     * @return
+     */
+    String[] names();
+
+    /**
+     * 创建javabean的codec
+     *
+     * @param type javabean
+     * @return 不在索引中时返回null
+     */
+    IMapCodec<?> codec(Class<?> type);
+}
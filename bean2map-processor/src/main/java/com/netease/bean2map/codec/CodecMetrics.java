@@ -0,0 +1,279 @@
+package com.netease.bean2map.codec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * codec转换统计，系统属性bean2map.metrics=true时由{@link MapCodecRegister}返回带统计的codec
+ * <p>
+ * 计数使用{@link LongAdder}，多线程并发转换时没有竞争；未开启时不创建任何统计对象
+ */
+public final class CodecMetrics implements CodecMetricsMXBean {
+    private static final Logger log = LoggerFactory.getLogger(CodecMetrics.class);
+    /**
+     * 是否开启统计，启动时读取一次
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("bean2map.metrics");
+
+    /**
+     * 第一个桶的上限为1024纳秒，之后每个桶翻倍，最后一个桶不设上限
+     */
+    private static final int BUCKETS = 22;
+    private static final int FIRST_BUCKET_SHIFT = 10;
+
+    /**
+     * 每个codec所属的类只包装一次，子类继承父类codec时共享同一个包装
+     */
+    private static final ClassValue<AtomicReference<MeteredCodec<?>>> metered = new ClassValue<AtomicReference<MeteredCodec<?>>>() {
+        @Override
+        protected AtomicReference<MeteredCodec<?>> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private static final ClassValue<CodecMetrics> metrics = new ClassValue<CodecMetrics>() {
+        @Override
+        protected CodecMetrics computeValue(Class<?> type) {
+            CodecMetrics metrics = new CodecMetrics(type.getName());
+            metrics.register();
+            return metrics;
+        }
+    };
+
+    private final String entityClass;
+    private final Timer code = new Timer();
+    private final Timer decode = new Timer();
+    private final Timer filter = new Timer();
+    private final Timer write = new Timer();
+    private final LongAdder codeOutputSize = new LongAdder();
+    private final LongAdder castFailures = new LongAdder();
+
+    private CodecMetrics(String entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    /**
+     * javabean的统计，同一个类只创建一个
+     *
+     * @param type javabean
+     * @return
+     */
+    public static CodecMetrics of(Class<?> type) {
+        return metrics.get(type);
+    }
+
+    /**
+     * 开启统计时包装codec
+     *
+     * @param type  javabean
+     * @param codec
+     * @param <T>
+     * @return 未开启统计时原样返回
+     */
+    static <T> IMapCodec<T> wrap(Class<?> type, IMapCodec<T> codec) {
+        if (!ENABLED || codec == null) {
+            return codec;
+        }
+        return meter(type, codec);
+    }
+
+    /**
+     * 包装codec记录统计，不受系统属性控制，同一个类和codec返回同一个包装
+     *
+     * @param type  javabean
+     * @param codec
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> IMapCodec<T> meter(Class<?> type, IMapCodec<T> codec) {
+        if (codec instanceof MeteredCodec) {
+            return codec;
+        }
+        AtomicReference<MeteredCodec<?>> reference = metered.get(type);
+        MeteredCodec<?> current = reference.get();
+        if (current != null && current.getDelegate() == codec) {
+            return (IMapCodec<T>) current;
+        }
+        MeteredCodec<T> created = new MeteredCodec<>(codec, of(type));
+        // 并发包装时保留先创建的实例，codec被重新注册时替换
+        if (reference.compareAndSet(current, created)) {
+            return created;
+        }
+        current = reference.get();
+        return current.getDelegate() == codec ? (IMapCodec<T>) current : created;
+    }
+
+    private void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("com.netease.bean2map:type=CodecMetrics,name=" + ObjectName.quote(entityClass));
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException | RuntimeException e) {
+            log.warn("[METRICS] register mbean for [{}] failed: {}", entityClass, e.toString());
+        }
+    }
+
+    void recordCode(long nanos, int size) {
+        code.record(nanos);
+        codeOutputSize.add(size);
+    }
+
+    void recordDecode(long nanos) {
+        decode.record(nanos);
+    }
+
+    void recordFilter(long nanos) {
+        filter.record(nanos);
+    }
+
+    void recordWrite(long nanos) {
+        write.record(nanos);
+    }
+
+    void recordCastFailure() {
+        castFailures.increment();
+    }
+
+    @Override
+    public String getEntityClass() {
+        return entityClass;
+    }
+
+    @Override
+    public long getCodeCount() {
+        return code.count.sum();
+    }
+
+    @Override
+    public long getDecodeCount() {
+        return decode.count.sum();
+    }
+
+    @Override
+    public long getFilterCount() {
+        return filter.count.sum();
+    }
+
+    @Override
+    public long getWriteCount() {
+        return write.count.sum();
+    }
+
+    @Override
+    public long getCodeOutputSize() {
+        return codeOutputSize.sum();
+    }
+
+    @Override
+    public long getCastFailures() {
+        return castFailures.sum();
+    }
+
+    @Override
+    public long getCodeNanos() {
+        return code.nanos.sum();
+    }
+
+    @Override
+    public long getDecodeNanos() {
+        return decode.nanos.sum();
+    }
+
+    @Override
+    public long getFilterNanos() {
+        return filter.nanos.sum();
+    }
+
+    @Override
+    public long getWriteNanos() {
+        return write.nanos.sum();
+    }
+
+    @Override
+    public long[] getCodeLatencyHistogram() {
+        return code.histogram();
+    }
+
+    @Override
+    public long[] getDecodeLatencyHistogram() {
+        return decode.histogram();
+    }
+
+    @Override
+    public long[] getFilterLatencyHistogram() {
+        return filter.histogram();
+    }
+
+    @Override
+    public long[] getWriteLatencyHistogram() {
+        return write.histogram();
+    }
+
+    @Override
+    public long[] getLatencyBucketBounds() {
+        long[] bounds = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            bounds[i] = 1L << (FIRST_BUCKET_SHIFT + i);
+        }
+        bounds[BUCKETS - 1] = Long.MAX_VALUE;
+        return bounds;
+    }
+
+    @Override
+    public void reset() {
+        code.reset();
+        decode.reset();
+        filter.reset();
+        write.reset();
+        codeOutputSize.reset();
+        castFailures.reset();
+    }
+
+    /**
+     * 调用次数、总耗时和按2的幂分桶的耗时直方图
+     */
+    private static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        Timer() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long elapsed) {
+            count.increment();
+            nanos.add(elapsed);
+            int bucket = 64 - Long.numberOfLeadingZeros(elapsed >>> FIRST_BUCKET_SHIFT);
+            buckets[Math.min(bucket, BUCKETS - 1)].increment();
+        }
+
+        long[] histogram() {
+            long[] histogram = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = buckets[i].sum();
+            }
+            return histogram;
+        }
+
+        void reset() {
+            count.reset();
+            nanos.reset();
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+        }
+    }
+}
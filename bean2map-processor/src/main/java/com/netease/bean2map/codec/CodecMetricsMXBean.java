@@ -0,0 +1,63 @@
+package com.netease.bean2map.codec;
+
+/**
+ * 单个javabean的转换统计，注册为com.netease.bean2map:type=CodecMetrics,name=javabean类名
+ * <p>
+ * 耗时直方图的第i个桶统计耗时小于{@link #getLatencyBucketBounds()}[i]纳秒的调用，最后一个桶不设上限
+ */
+public interface CodecMetricsMXBean {
+    /**
+     * @return javabean类名
+     */
+    String getEntityClass();
+
+    /**
+     * @return 输出Map的code()调用次数
+     */
+    long getCodeCount();
+
+    long getDecodeCount();
+
+    long getFilterCount();
+
+    /**
+     * @return 写入sink、字节或ByteBuffer的编码次数，不计入code次数和输出大小
+     */
+    long getWriteCount();
+
+    /**
+     * @return code()输出的属性个数之和，除以code次数即平均大小
+     */
+    long getCodeOutputSize();
+
+    /**
+     * @return decode()、set()转换属性值时抛出的ClassCastException次数
+     */
+    long getCastFailures();
+
+    long getCodeNanos();
+
+    long getDecodeNanos();
+
+    long getFilterNanos();
+
+    long getWriteNanos();
+
+    long[] getCodeLatencyHistogram();
+
+    long[] getDecodeLatencyHistogram();
+
+    long[] getFilterLatencyHistogram();
+
+    long[] getWriteLatencyHistogram();
+
+    /**
+     * @return 各个桶的耗时上限，单位纳秒
+     */
+    long[] getLatencyBucketBounds();
+
+    /**
+     * 清空所有统计
+     */
+    void reset();
+}
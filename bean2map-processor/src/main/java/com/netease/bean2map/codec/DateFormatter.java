@@ -0,0 +1,242 @@
+package com.netease.bean2map.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * 线程安全、可共享的日期格式化器，每个pattern只需创建一次
+ * <p>
+ * {@link DateFormat#DATE}和{@link DateFormat#DATETIME}两种固定格式直接按字符读写，不创建临时对象；
+ * 其余格式及超出快速路径范围(非公历年份、夏令时切换附近)的值使用线程独享的{@link SimpleDateFormat}，结果保持一致。
+ * <p>
+ * 未指定时区时使用创建时的默认时区
+ */
+public final class DateFormatter {
+    private static final int GENERIC = 0;
+    private static final int DATE = 1;
+    private static final int DATETIME = 2;
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+    /**
+     * 1970-01-01距0000-03-01的天数
+     */
+    private static final long DAYS_0000_TO_1970 = 719468L;
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 9999;
+
+    private final String pattern;
+    private final TimeZone timeZone;
+    private final int shape;
+    private final ThreadLocal<SimpleDateFormat> formats;
+
+    public DateFormatter(String pattern) {
+        this(pattern, TimeZone.getDefault());
+    }
+
+    public DateFormatter(String pattern, TimeZone timeZone) {
+        this.pattern = pattern;
+        this.timeZone = (TimeZone) timeZone.clone();
+        if (DateFormat.DATE.equals(pattern)) {
+            this.shape = DATE;
+        } else if (DateFormat.DATETIME.equals(pattern)) {
+            this.shape = DATETIME;
+        } else {
+            this.shape = GENERIC;
+        }
+        this.formats = ThreadLocal.withInitial(() -> {
+            SimpleDateFormat format = new SimpleDateFormat(this.pattern);
+            format.setTimeZone((TimeZone) this.timeZone.clone());
+            return format;
+        });
+        // 提前校验pattern
+        formats.get();
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public String format(Date date) {
+        if (shape != GENERIC) {
+            byte[] bytes = fastFormat(date.getTime());
+            if (bytes != null) {
+                return new String(bytes, StandardCharsets.ISO_8859_1);
+            }
+        }
+        return formats.get().format(date);
+    }
+
+    /**
+     * 格式化为UTF-8字节，固定格式直接写入byte[]，不经过String
+     *
+     * @param date
+     * @return
+     */
+    public byte[] formatBytes(Date date) {
+        if (shape != GENERIC) {
+            byte[] bytes = fastFormat(date.getTime());
+            if (bytes != null) {
+                return bytes;
+            }
+        }
+        return formats.get().format(date).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 解析日期，与{@link SimpleDateFormat#parse(String)}不同，要求整个字符串都符合格式
+     *
+     * @param text
+     * @return
+     * @throws ParseException
+     */
+    public Date parse(String text) throws ParseException {
+        if (shape != GENERIC) {
+            long millis = fastParse(text);
+            if (millis != Long.MIN_VALUE) {
+                return new Date(millis);
+            }
+        }
+        ParsePosition position = new ParsePosition(0);
+        Date date = formats.get().parse(text, position);
+        if (date == null || position.getIndex() != text.length()) {
+            int errorIndex = position.getErrorIndex() >= 0 ? position.getErrorIndex() : position.getIndex();
+            throw new ParseException("Unparseable date: \"" + text + "\"", errorIndex);
+        }
+        return date;
+    }
+
+    /**
+     * @return 超出快速路径范围时返回null，字符均为ASCII
+     */
+    private byte[] fastFormat(long millis) {
+        long local = millis + timeZone.getOffset(millis);
+        long days = Math.floorDiv(local, MILLIS_PER_DAY);
+        int secondOfDay = (int) (Math.floorMod(local, MILLIS_PER_DAY) / 1000);
+
+        // civil_from_days, 见 http://howardhinnant.github.io/date_algorithms.html
+        long z = days + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, 146097);
+        int doe = (int) (z - era * 146097);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            return null;
+        }
+
+        byte[] buf = new byte[shape == DATE ? 10 : 19];
+        write4(buf, 0, (int) year);
+        buf[4] = '-';
+        write2(buf, 5, month);
+        buf[7] = '-';
+        write2(buf, 8, day);
+        if (shape == DATETIME) {
+            buf[10] = ' ';
+            write2(buf, 11, secondOfDay / 3600);
+            buf[13] = ':';
+            write2(buf, 14, secondOfDay / 60 % 60);
+            buf[16] = ':';
+            write2(buf, 17, secondOfDay % 60);
+        }
+        return buf;
+    }
+
+    /**
+     * @return 无法走快速路径时返回Long.MIN_VALUE
+     */
+    private long fastParse(String text) {
+        int length = text.length();
+        if (length != (shape == DATE ? 10 : 19) || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return Long.MIN_VALUE;
+        }
+        int year = read(text, 0, 4);
+        int month = read(text, 5, 2);
+        int day = read(text, 8, 2);
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        if (shape == DATETIME) {
+            if (text.charAt(10) != ' ' || text.charAt(13) != ':' || text.charAt(16) != ':') {
+                return Long.MIN_VALUE;
+            }
+            hour = read(text, 11, 2);
+            minute = read(text, 14, 2);
+            second = read(text, 17, 2);
+        }
+        if (year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            // 交给SimpleDateFormat按宽松模式处理
+            return Long.MIN_VALUE;
+        }
+
+        // days_from_civil
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yoe = y - era * 400;
+        int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        long days = era * 146097L + doe - DAYS_0000_TO_1970;
+        long local = days * MILLIS_PER_DAY + ((hour * 60 + minute) * 60 + second) * 1000L;
+
+        int offset = timeZone.getOffset(local - timeZone.getRawOffset());
+        long millis = local - offset;
+        // 夏令时切换附近的本地时间存在歧义，保持与SimpleDateFormat一致
+        if (timeZone.getOffset(millis) != offset
+                || timeZone.getOffset(millis - MILLIS_PER_DAY) != offset
+                || timeZone.getOffset(millis + MILLIS_PER_DAY) != offset) {
+            return Long.MIN_VALUE;
+        }
+        return millis;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * @return 非数字时返回-1
+     */
+    private static int read(String text, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void write2(byte[] buf, int offset, int value) {
+        buf[offset] = (byte) ('0' + value / 10);
+        buf[offset + 1] = (byte) ('0' + value % 10);
+    }
+
+    private static void write4(byte[] buf, int offset, int value) {
+        write2(buf, offset, value / 100);
+        write2(buf, offset + 2, value % 100);
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
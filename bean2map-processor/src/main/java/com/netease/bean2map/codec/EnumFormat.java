@@ -0,0 +1,22 @@
+package com.netease.bean2map.codec;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 枚举属性的编码方式，未注解时编码为name
+ * <p>
+ * 解码时name和ordinal都能识别，与编码方式无关
+ */
+@Target({ElementType.METHOD, ElementType.FIELD})
+@Retention(RetentionPolicy.CLASS)
+public @interface EnumFormat {
+    /**
+     * 编码为ordinal
+     *
+     * @return
+     */
+    boolean ordinal() default false;
+}
@@ -0,0 +1,105 @@
+package com.netease.bean2map.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 枚举的name和ordinal查找表，创建时复制一次枚举值，线程安全
+ * <p>
+ * 查找不经过{@link Enum#valueOf}，找不到时不抛出IllegalArgumentException
+ *
+ * @param <E>
+ */
+public final class EnumLookup<E extends Enum<E>> {
+    private final Class<E> type;
+    private final E[] constants;
+    private final Map<String, E> names;
+
+    public EnumLookup(Class<E> type) {
+        this.type = type;
+        this.constants = type.getEnumConstants();
+        this.names = new HashMap<>((int) (constants.length / 0.75f) + 1);
+        for (E constant : constants) {
+            names.put(constant.name(), constant);
+        }
+    }
+
+    public Class<E> getType() {
+        return type;
+    }
+
+    /**
+     * @param name
+     * @return 不存在时返回null
+     */
+    public E byName(String name) {
+        return names.get(name);
+    }
+
+    /**
+     * @param ordinal
+     * @return 越界时返回null
+     */
+    public E byOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null;
+    }
+
+    /**
+     * 整数及数字字符串按ordinal查找，其余字符串按name查找
+     *
+     * @param value
+     * @return
+     * @throws ClassCastException 找不到对应的枚举值时抛出
+     */
+    public E decode(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+
+        E result = null;
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            long ordinal = ((Number) value).longValue();
+            // 先在long上判断范围再收窄，避免大的负数截断后落在范围内
+            result = ordinal >= 0 && ordinal < constants.length ? constants[(int) ordinal] : null;
+        } else if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0) {
+                return null;
+            }
+            // 枚举名不能以数字开头
+            result = Character.isDigit(strVal.charAt(0)) ? byOrdinal(parseOrdinal(strVal)) : byName(strVal);
+        }
+
+        if (result == null) {
+            throw new ClassCastException("can not cast to " + type.getName() + ", value : " + value);
+        }
+        return result;
+    }
+
+    /**
+     * @return 不是合法的ordinal时返回-1
+     */
+    private int parseOrdinal(String value) {
+        if (value.length() > 9) {
+            return -1;
+        }
+        int ordinal = 0;
+        for (int i = 0; i < value.length(); i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            ordinal = ordinal * 10 + digit;
+        }
+        return ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return "EnumLookup[" + type.getName() + "]";
+    }
+}
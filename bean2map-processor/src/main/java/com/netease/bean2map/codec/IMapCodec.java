@@ -1,6 +1,15 @@
 package com.netease.bean2map.codec;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 public interface IMapCodec<T> {
     /**
@@ -11,6 +20,40 @@ public interface IMapCodec<T> {
      */
     Map<String, Object> code(T entity);
 
+    /**
+     * javabean的属性依次写入sink，不创建中间Map，规则与code()一致
+     *
+     * @param entity
+     * @param sink
+     */
+    default void code(T entity, PropertySink sink) {
+        for (Map.Entry<String, Object> entry : code(entity).entrySet()) {
+            sink.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * javabean的属性依次写入sink，基本类型的属性调用putXxx不装箱写出，规则与code()一致
+     *
+     * @param entity
+     * @param sink
+     */
+    default void code(T entity, PrimitiveSink sink) {
+        code(entity, (PropertySink) sink);
+    }
+
+    /**
+     * javabean的属性写入调用方提供的map，map可清空后重复使用，规则与code()一致
+     *
+     * @param entity
+     * @param target
+     * @return target
+     */
+    default Map<String, Object> code(T entity, Map<String, Object> target) {
+        target.putAll(code(entity));
+        return target;
+    }
+
     /**
      * map转javabean
      *
@@ -19,6 +62,138 @@ public interface IMapCodec<T> {
      */
     T decode(Map<String, Object> map);
 
+    /**
+     * map中的属性写入已有的javabean，map中不存在或值为null的属性保持不变，规则与decode()一致
+     *
+     * @param map
+     * @param target
+     * @return target
+     */
+    default T decodeInto(Map<String, Object> map, T target) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            if (entry.getValue() != null) {
+                set(target, entry.getKey(), entry.getValue());
+            }
+        }
+        return target;
+    }
+
+    /**
+     * 从source读取属性转javabean，基本类型的属性调用getXxx不装箱读取，规则与decode()一致
+     * <p>
+     * 默认实现按schema()中的属性名读取为Map后调用decode()
+     *
+     * @param source
+     * @return
+     */
+    default T decode(PrimitiveSource source) {
+        KeyIndex keys = schema().keyIndex();
+        IndexedMap map = new IndexedMap(keys);
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = source.get(keys.key(i));
+            if (value != null) {
+                map.set(i, value);
+            }
+        }
+        return decode(map);
+    }
+
+    /**
+     * javabean的属性编码为字节依次写入sink，用于Redis hash等存储，规则与code()一致
+     * <p>
+     * 值按{@link ByteValues#toBytes(Object)}转换，集合和嵌套的javabean按{@link BinaryFormat}写出，可通过decodeFromBytes()还原
+     *
+     * @param entity
+     * @param sink
+     */
+    default void codeToBytes(T entity, ByteSink sink) {
+        code(entity, (PropertySink) (key, value) -> sink.put(key.getBytes(StandardCharsets.UTF_8), ByteValues.toBytes(value)));
+    }
+
+    /**
+     * javabean的属性编码为字节，规则与codeToBytes(T, ByteSink)一致
+     * <p>
+     * 返回的Map以byte[]为key，只能遍历，不能按key查找
+     *
+     * @param entity
+     * @return
+     */
+    default Map<byte[], byte[]> codeToBytes(T entity) {
+        Map<byte[], byte[]> map = new LinkedHashMap<>();
+        codeToBytes(entity, map::put);
+        return map;
+    }
+
+    /**
+     * codeToBytes()的结果转javabean，值按UTF-8字符串转换，规则与decode()一致
+     * <p>
+     * map只会被遍历，可以是以byte[]为key的任意Map。默认实现按schema()中的{@link PropertySchema.Property#isStructured()}读取集合和Map
+     *
+     * @param map
+     * @return
+     */
+    default T decodeFromBytes(Map<byte[], byte[]> map) {
+        PropertySchema schema = schema();
+        Map<String, Object> values = new HashMap<>((int) (map.size() / 0.75f) + 1);
+        for (Map.Entry<byte[], byte[]> entry : map.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                String key = ByteValues.toString(entry.getKey());
+                PropertySchema.Property property = schema.property(key);
+                values.put(key, property != null && property.isStructured()
+                        ? ByteValues.structuredValue(entry.getValue()) : ByteValues.toString(entry.getValue()));
+            }
+        }
+        return decode(values);
+    }
+
+    /**
+     * javabean按{@link BinaryFormat}写入buffer，属性按下标写出，规则与code()一致
+     * <p>
+     * 默认实现通过get(T, int)读取每个属性
+     *
+     * @param entity
+     * @param buffer
+     * @throws java.nio.BufferOverflowException buffer空间不足时抛出，position已经移动
+     */
+    default void writeTo(T entity, ByteBuffer buffer) {
+        PropertySchema schema = schema();
+        BinaryFormat.writeHeader(buffer, schema);
+        for (int i = 0; i < schema.size(); i++) {
+            if (schema.property(i).isReadable()) {
+                Object value = get(entity, i);
+                if (value != null) {
+                    BinaryFormat.writeValue(buffer, i, value);
+                }
+            }
+        }
+        BinaryFormat.writeEnd(buffer);
+    }
+
+    /**
+     * 从buffer读取writeTo()写出的javabean，不认识的属性跳过，规则与decode()一致
+     * <p>
+     * 默认实现读取为Map后调用decode()
+     *
+     * @param buffer
+     * @return
+     * @throws IllegalArgumentException 写出方的属性与本地不兼容时抛出
+     */
+    default T readFrom(ByteBuffer buffer) {
+        PropertySchema schema = schema();
+        BinaryFormat.readHeader(buffer, schema);
+        IndexedMap map = new IndexedMap(schema.keyIndex());
+        int ordinal;
+        while ((ordinal = BinaryFormat.readOrdinal(buffer)) >= 0) {
+            byte tag = buffer.get();
+            if (ordinal < schema.size()) {
+                map.set(ordinal, BinaryFormat.readValue(buffer, tag));
+            } else {
+                BinaryFormat.skip(buffer, tag);
+            }
+        }
+        return decode(map);
+    }
+
     /**
      * map过滤javabean不存在的元素
      *
@@ -26,4 +201,197 @@ public interface IMapCodec<T> {
      * @return
      */
     Map<String, Object> filter(Map<String, Object> map);
+
+    /**
+     * javabean的只读Map视图，读取时直接调用getter，规则与code()一致
+     * <p>
+     * 默认实现退化为code()的快照
+     *
+     * @param entity
+     * @return
+     */
+    default Map<String, Object> view(T entity) {
+        return code(entity);
+    }
+
+    /**
+     * 按属性名读取单个属性，值与code()中的一致
+     *
+     * @param entity
+     * @param name   属性名
+     * @return 属性不存在或值为null时返回null
+     */
+    default Object get(T entity, String name) {
+        return code(entity).get(name);
+    }
+
+    /**
+     * 按属性名写入单个属性，值的转换与decode()一致，null写入null，基本类型的属性不接受null
+     *
+     * @param entity
+     * @param name   属性名
+     * @param value
+     * @return 属性不存在或不可写时返回false
+     * @throws UnsupportedOperationException 未覆盖本方法时抛出，decodeInto()和patch()的默认实现依赖本方法
+     */
+    default boolean set(T entity, String name, Object value) {
+        throw new UnsupportedOperationException("set by name not supported by " + getClass().getName());
+    }
+
+    /**
+     * 属性元数据，下标与get(T, int)/set(T, int, Object)一致
+     * <p>
+     * 手写的codec覆盖时属性名应与code()的key一致，get/set(T, int)、projection()、writeTo()、readFrom()、
+     * decode(PrimitiveSource)和decodeFromBytes()的默认实现依赖本方法
+     *
+     * @return
+     * @throws UnsupportedOperationException 未覆盖本方法时抛出
+     */
+    default PropertySchema schema() {
+        throw new UnsupportedOperationException("schema not supported by " + getClass().getName());
+    }
+
+    /**
+     * 按下标读取单个属性，值与code()中的一致
+     *
+     * @param entity
+     * @param ordinal 属性下标，见{@link #schema()}
+     * @return 下标越界或值为null时返回null
+     */
+    default Object get(T entity, int ordinal) {
+        PropertySchema schema = schema();
+        return ordinal >= 0 && ordinal < schema.size() ? get(entity, schema.property(ordinal).getName()) : null;
+    }
+
+    /**
+     * 按下标写入单个属性，规则与set(T, String, Object)一致
+     *
+     * @param entity
+     * @param ordinal 属性下标，见{@link #schema()}
+     * @param value
+     * @return 下标越界或属性不可写时返回false
+     */
+    default boolean set(T entity, int ordinal, Object value) {
+        PropertySchema schema = schema();
+        return ordinal >= 0 && ordinal < schema.size() && set(entity, schema.property(ordinal).getName(), value);
+    }
+
+    /**
+     * 编译只输出部分属性的投影，结果可缓存复用
+     *
+     * @param names 选中的属性名
+     * @return
+     * @throws IllegalArgumentException 属性名不存在、不可读或重复
+     */
+    default Projection<T> projection(String... names) {
+        return new Projection<>(this, names);
+    }
+
+    /**
+     * 比较两个javabean，只输出值不同的属性，值按code()的规则取自after，after中为null的属性输出null
+     * <p>
+     * 属性值使用equals比较，两者相同时返回空Map
+     *
+     * @param before 修改前，非null
+     * @param after  修改后，非null
+     * @return
+     */
+    default Map<String, Object> diff(T before, T after) {
+        Map<String, Object> oldMap = code(before);
+        Map<String, Object> newMap = code(after);
+        Map<String, Object> changes = new HashMap<>();
+        for (Map.Entry<String, Object> entry : newMap.entrySet()) {
+            if (!Objects.equals(entry.getValue(), oldMap.get(entry.getKey()))) {
+                changes.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (String key : oldMap.keySet()) {
+            if (!newMap.containsKey(key)) {
+                changes.put(key, null);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * 将diff()的结果写入target，值的转换与set(T, String, Object)一致，不存在或不可写的属性忽略
+     *
+     * @param target
+     * @param changes
+     * @return target
+     */
+    default T patch(T target, Map<String, Object> changes) {
+        for (Map.Entry<String, Object> entry : changes.entrySet()) {
+            set(target, entry.getKey(), entry.getValue());
+        }
+        return target;
+    }
+
+    /**
+     * 批量javabean转map，输出与输入顺序一致，null元素转换为null
+     *
+     * @param entities
+     * @return
+     */
+    default List<Map<String, Object>> codeAll(Collection<? extends T> entities) {
+        return Batches.map(entities, this::code);
+    }
+
+    /**
+     * 批量map转javabean，输出与输入顺序一致，null元素转换为null
+     *
+     * @param maps
+     * @return
+     */
+    default List<T> decodeAll(Collection<? extends Map<String, Object>> maps) {
+        return Batches.map(maps, this::decode);
+    }
+
+    /**
+     * 在{@link ForkJoinPool#commonPool()}中并行批量javabean转map
+     *
+     * @param entities
+     * @return
+     * @see #parallelCodeAll(Collection, Executor)
+     */
+    default List<Map<String, Object>> parallelCodeAll(Collection<? extends T> entities) {
+        return parallelCodeAll(entities, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 并行批量javabean转map，输出与输入顺序一致，数量较少时直接在调用线程中转换
+     * <p>
+     * 返回的List不可增删
+     *
+     * @param entities
+     * @param executor 执行转换任务的线程池
+     * @return
+     */
+    default List<Map<String, Object>> parallelCodeAll(Collection<? extends T> entities, Executor executor) {
+        return Batches.parallelMap(entities, this::code, executor);
+    }
+
+    /**
+     * 在{@link ForkJoinPool#commonPool()}中并行批量map转javabean
+     *
+     * @param maps
+     * @return
+     * @see #parallelDecodeAll(Collection, Executor)
+     */
+    default List<T> parallelDecodeAll(Collection<? extends Map<String, Object>> maps) {
+        return parallelDecodeAll(maps, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 并行批量map转javabean，输出与输入顺序一致，数量较少时直接在调用线程中转换
+     * <p>
+     * 返回的List不可增删
+     *
+     * @param maps
+     * @param executor 执行转换任务的线程池
+     * @return
+     */
+    default List<T> parallelDecodeAll(Collection<? extends Map<String, Object>> maps, Executor executor) {
+        return Batches.parallelMap(maps, this::decode, executor);
+    }
 }
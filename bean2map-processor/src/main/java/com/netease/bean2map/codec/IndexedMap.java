@@ -0,0 +1,316 @@
+package com.netease.bean2map.codec;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 基于固定属性名表{@link KeyIndex}的Map实现，值按下标存放在数组中
+ * <p>
+ * 同一个codec生成的所有实例共享属性名表，属性名之外的key存放在额外的HashMap中，完整支持Map的读写语义。
+ * 序列化后为{@link HashMap}
+ */
+public class IndexedMap extends AbstractMap<String, Object> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    /**
+     * 区分空槽与值为null的key
+     */
+    private static final Object NULL = new Object();
+
+    private final KeyIndex keys;
+    private final Object[] values;
+    private int size;
+    private HashMap<String, Object> extra;
+    private transient int modCount;
+    private transient Set<Entry<String, Object>> entrySet;
+
+    public IndexedMap(KeyIndex keys) {
+        this.keys = keys;
+        this.values = new Object[keys.size()];
+    }
+
+    private static Object mask(Object value) {
+        return value == null ? NULL : value;
+    }
+
+    private static Object unmask(Object value) {
+        return value == NULL ? null : value;
+    }
+
+    /**
+     * 按下标写入
+     *
+     * @param index 属性下标
+     * @param value
+     * @return 原值
+     */
+    public Object set(int index, Object value) {
+        Object old = values[index];
+        values[index] = mask(value);
+        if (old == null) {
+            size++;
+            modCount++;
+        }
+        return unmask(old);
+    }
+
+    /**
+     * 按下标读取
+     *
+     * @param index 属性下标
+     * @return
+     */
+    public Object valueAt(int index) {
+        return unmask(values[index]);
+    }
+
+    public KeyIndex keyIndex() {
+        return keys;
+    }
+
+    @Override
+    public int size() {
+        return extra == null ? size : size + extra.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = keys.indexOf(key);
+        if (index >= 0) {
+            return unmask(values[index]);
+        }
+        return extra == null ? null : extra.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = keys.indexOf(key);
+        if (index >= 0) {
+            return values[index] != null;
+        }
+        return extra != null && extra.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int index = keys.indexOf(key);
+        if (index >= 0) {
+            return set(index, value);
+        }
+        if (extra == null) {
+            extra = new HashMap<>();
+        }
+        int before = extra.size();
+        Object old = extra.put(key, value);
+        if (extra.size() != before) {
+            modCount++;
+        }
+        return old;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int index = keys.indexOf(key);
+        if (index >= 0) {
+            return removeAt(index);
+        }
+        if (extra == null || !extra.containsKey(key)) {
+            return null;
+        }
+        modCount++;
+        return extra.remove(key);
+    }
+
+    private Object removeAt(int index) {
+        Object old = values[index];
+        if (old != null) {
+            values[index] = null;
+            size--;
+            modCount++;
+        }
+        return unmask(old);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+        extra = null;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> es = entrySet;
+        if (es == null) {
+            es = entrySet = new EntrySet();
+        }
+        return es;
+    }
+
+    private Object writeReplace() {
+        return new HashMap<>(this);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return IndexedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            Object key = e.getKey();
+            return containsKey(key) && Objects.equals(get(key), e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (contains(o)) {
+                IndexedMap.this.remove(((Entry<?, ?>) o).getKey());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            IndexedMap.this.clear();
+        }
+    }
+
+    private final class SlotEntry implements Entry<String, Object> {
+        private final int index;
+
+        SlotEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return keys.key(index);
+        }
+
+        @Override
+        public Object getValue() {
+            return unmask(values[index]);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (values[index] == null) {
+                throw new IllegalStateException("entry removed:" + getKey());
+            }
+            Object old = values[index];
+            values[index] = mask(value);
+            return unmask(old);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return getKey().equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int next = -1;
+        private int last = -1;
+        private Iterator<Entry<String, Object>> extraIterator;
+        private boolean lastFromExtra;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            next++;
+            while (next < values.length && values[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next < values.length) {
+                return true;
+            }
+            if (extraIterator == null && extra != null) {
+                extraIterator = extra.entrySet().iterator();
+            }
+            return extraIterator != null && extraIterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next < values.length) {
+                last = next;
+                lastFromExtra = false;
+                advance();
+                return new SlotEntry(last);
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastFromExtra = true;
+            return extraIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (lastFromExtra) {
+                extraIterator.remove();
+                lastFromExtra = false;
+                modCount++;
+            } else if (last >= 0) {
+                removeAt(last);
+                last = -1;
+            } else {
+                throw new IllegalStateException();
+            }
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.netease.bean2map.codec;
+
+import java.io.Serializable;
+
+/**
+ * 固定的属性名表，属性名到下标的映射采用开放寻址，供生成的codec共享
+ */
+public final class KeyIndex implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String[] keys;
+    /**
+     * 存放下标+1，0表示空槽
+     */
+    private final int[] table;
+    private final int mask;
+
+    public KeyIndex(String... keys) {
+        this.keys = keys.clone();
+        int capacity = Integer.highestOneBit(Math.max(keys.length, 1) * 2 - 1) << 1;
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < keys.length; i++) {
+            String key = keys[i];
+            if (key == null) {
+                throw new IllegalArgumentException("null key at index " + i);
+            }
+            int slot = spread(key.hashCode()) & mask;
+            while (table[slot] != 0) {
+                if (keys[table[slot] - 1].equals(key)) {
+                    throw new IllegalArgumentException("duplicate key:" + key);
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 属性个数
+     *
+     * @return
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * 下标对应的属性名
+     *
+     * @param index
+     * @return
+     */
+    public String key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * 属性名对应的下标
+     *
+     * @param key
+     * @return 不存在时返回-1
+     */
+    public int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        int slot = spread(key.hashCode()) & mask;
+        int index;
+        while ((index = table[slot]) != 0) {
+            String candidate = keys[index - 1];
+            if (candidate == key || candidate.equals(key)) {
+                return index - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+}
@@ -11,15 +11,75 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class MapCodecRegister {
     private static final Logger log = LoggerFactory.getLogger(MapCodecRegister.class);
-    private static final Map<Class, IMapCodec> map = new ConcurrentHashMap<>();
+    /**
+     * 显式注册的codec，挂在各自的Class上，不会阻止应用classloader被回收
+     */
+    private static final ClassValue<AtomicReference<IMapCodec<?>>> registered = new ClassValue<AtomicReference<IMapCodec<?>>>() {
+        @Override
+        protected AtomicReference<IMapCodec<?>> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+    /**
+     * 每个类解析一次的查找结果，注册新的codec后按version重新解析
+     */
+    private static final ClassValue<Resolved> resolved = new ClassValue<Resolved>() {
+        @Override
+        protected Resolved computeValue(Class<?> type) {
+            int current = version;
+            return new Resolved(resolve(type), current);
+        }
+    };
+    private static volatile int version;
+    /**
+     * 找不到codec时在运行时创建的codec
+     */
+    private static final ClassValue<IMapCodec<?>> runtimeCodecs = new ClassValue<IMapCodec<?>>() {
+        @Override
+        protected IMapCodec<?> computeValue(Class<?> type) {
+            log.debug("[RUNTIME] create codec for [{}]", type.getName());
+            return CodecMetrics.wrap(type, RuntimeCodec.create(type));
+        }
+    };
+
+    /**
+     * manifest中记录的javabean类名到codec类名的映射，codec在首次getCodec时才加载
+     */
+    private static final Map<String, String> manifest = new ConcurrentHashMap<>();
+    /**
+     * 注解处理器生成的codec索引，优先于manifest使用
+     */
+    private static final List<CodecIndex> indexes = new CopyOnWriteArrayList<>();
 
     static {
+        try {
+            for (CodecIndex index : ServiceLoader.load(CodecIndex.class, MapCodecRegister.class.getClassLoader())) {
+                indexes.add(index);
+            }
+        } catch (ServiceConfigurationError e) {
+            log.error("[PRELOAD] codec index error:", e);
+        }
         try {
             Enumeration<URL> enumUrl = MapCodecRegister.class.getClassLoader().getResources("META-INF/" + MapCodecRegister.class.getName());
             while (enumUrl.hasMoreElements()) {
@@ -28,15 +88,15 @@ public class MapCodecRegister {
                     BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
                     String line;
                     while ((line = br.readLine()) != null) {
-                        Class<?> codecClass = Class.forName(line);
-                        if (IMapCodec.class.isAssignableFrom(codecClass)) {
-                            Class<?> entityClass = register((IMapCodec<?>) codecClass.newInstance());
-                            log.debug("[PRELOAD] codec[{}] for [{}]", codecClass.getName(), entityClass.getName());
-                        } else {
-                            log.warn("[PRELOAD] codec[{}] illegal", codecClass.getName());
+                        line = line.trim();
+                        int split = line.indexOf('=');
+                        if (split > 0) {
+                            manifest.put(line.substring(0, split), line.substring(split + 1));
+                        } else if (!line.isEmpty()) {
+                            // 旧版本manifest只有codec类名，只能立即加载
+                            preload(line);
                         }
                     }
-
                 } catch (IOException e) {
                     log.error("[PRELOAD] codec mainfest[" + url + "] failed:", e);
                 }
@@ -46,18 +106,194 @@ public class MapCodecRegister {
         }
     }
 
+    private static void preload(String codecName) {
+        try {
+            Class<?> codecClass = Class.forName(codecName);
+            if (IMapCodec.class.isAssignableFrom(codecClass)) {
+                Class<?> entityClass = register((IMapCodec<?>) codecClass.newInstance());
+                log.debug("[PRELOAD] codec[{}] for [{}]", codecClass.getName(), entityClass.getName());
+            } else {
+                log.warn("[PRELOAD] codec[{}] illegal", codecClass.getName());
+            }
+        } catch (Exception | LinkageError e) {
+            log.error("[PRELOAD] codec[" + codecName + "] failed:", e);
+        }
+    }
+
+    /**
+     * 按索引或manifest创建javabean的codec，manifest中的codec类使用javabean的classloader加载
+     *
+     * @param type javabean
+     * @return 不存在或加载失败时返回null
+     */
+    private static IMapCodec<?> load(Class<?> type) {
+        IMapCodec<?> codec = null;
+        for (CodecIndex index : indexes) {
+            codec = index.codec(type);
+            if (codec != null) {
+                break;
+            }
+        }
+        if (codec == null) {
+            String codecName = manifest.get(type.getName());
+            if (codecName == null) {
+                return null;
+            }
+            try {
+                codec = (IMapCodec<?>) Class.forName(codecName, true, type.getClassLoader()).newInstance();
+            } catch (Exception | LinkageError e) {
+                log.error("[LOAD] codec[" + codecName + "] for [" + type.getName() + "] failed:", e);
+                return null;
+            }
+        }
+        AtomicReference<IMapCodec<?>> reference = registered.get(type);
+        // 并发加载时保留先注册的实例
+        reference.compareAndSet(null, codec);
+        log.debug("[LOAD] codec[{}] for [{}]", codec.getClass().getName(), type.getName());
+        return reference.get();
+    }
+
+    /**
+     * 在{@link ForkJoinPool#commonPool()}中并行加载索引和manifest中的所有codec
+     *
+     * @return 加载成功的codec数量
+     * @see #warmUp(Executor)
+     */
+    public static int warmUp() {
+        return warmUp(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 并行加载索引和manifest中的所有codec，供希望在启动阶段完成加载的应用调用，返回时已全部加载完成
+     *
+     * @param executor 执行加载任务的线程池
+     * @return 加载成功的codec数量
+     */
+    public static int warmUp(Executor executor) {
+        Set<String> entityNames = new LinkedHashSet<>();
+        for (CodecIndex index : indexes) {
+            Collections.addAll(entityNames, index.names());
+        }
+        entityNames.addAll(manifest.keySet());
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(entityNames.size());
+        ClassLoader classLoader = MapCodecRegister.class.getClassLoader();
+        for (String entityName : entityNames) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return getCodec(Class.forName(entityName, false, classLoader)) != null;
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.warn("[WARMUP] entity[{}] not found: {}", entityName, e.toString());
+                    return false;
+                }
+            }, executor));
+        }
+        int count = 0;
+        for (CompletableFuture<Boolean> future : futures) {
+            if (future.join()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     public static <T> Class<T> register(IMapCodec<T> codec) {
         Type[] typeArguments = ((ParameterizedType) codec.getClass().getGenericInterfaces()[0]).getActualTypeArguments();
         if (typeArguments.length > 0) {
             Class<T> clazz = (Class<T>) typeArguments[0];
-            map.put(clazz, codec);
+            synchronized (MapCodecRegister.class) {
+                registered.get(clazz).set(codec);
+                version++;
+            }
             return clazz;
         } else {
             throw new RuntimeException("can not get entity class");
         }
     }
 
+    /**
+     * 注册codec索引，用于未通过ServiceLoader发现的索引，如native-image中直接引用生成的索引类
+     *
+     * @param index
+     */
+    public static void register(CodecIndex index) {
+        indexes.add(index);
+        synchronized (MapCodecRegister.class) {
+            version++;
+        }
+    }
+
+    /**
+     * 获取codec，类本身未注册时依次查找父类和接口上最近的codec，如CGLIB、Hibernate生成的代理类
+     * <p>
+     * 从父类继承的codec只处理父类中的属性，decode()创建的也是父类实例
+     *
+     * @param clazz
+     * @param <T>
+     * @return 找不到时返回null
+     */
     public static <T> IMapCodec<T> getCodec(Class<T> clazz) {
-        return map.get(clazz);
+        Resolved result = resolved.get(clazz);
+        if (result.version != version) {
+            resolved.remove(clazz);
+            result = resolved.get(clazz);
+        }
+        return (IMapCodec<T>) result.codec;
+    }
+
+    /**
+     * 获取codec，找不到注解生成的codec时使用{@link RuntimeCodec}，每个类只创建一次
+     *
+     * @param clazz
+     * @param <T>
+     * @return
+     * @throws IllegalArgumentException 无法内省javabean时抛出
+     */
+    public static <T> IMapCodec<T> getOrCreateCodec(Class<T> clazz) {
+        IMapCodec<T> codec = getCodec(clazz);
+        return codec != null ? codec : (IMapCodec<T>) runtimeCodecs.get(clazz);
+    }
+
+    /**
+     * 先沿父类链查找，再按广度优先查找接口，已注册的codec优先于manifest，开启统计时返回包装后的codec
+     */
+    private static IMapCodec<?> resolve(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            IMapCodec<?> codec = registered.get(c).get();
+            if (codec == null) {
+                codec = load(c);
+            }
+            if (codec != null) {
+                return CodecMetrics.wrap(c, codec);
+            }
+        }
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            Collections.addAll(queue, c.getInterfaces());
+        }
+        while (!queue.isEmpty()) {
+            Class<?> c = queue.poll();
+            if (visited.add(c)) {
+                IMapCodec<?> codec = registered.get(c).get();
+                if (codec == null) {
+                    codec = load(c);
+                }
+                if (codec != null) {
+                    return CodecMetrics.wrap(c, codec);
+                }
+                Collections.addAll(queue, c.getInterfaces());
+            }
+        }
+        return null;
+    }
+
+    private static final class Resolved {
+        private final IMapCodec<?> codec;
+        private final int version;
+
+        Resolved(IMapCodec<?> codec, int version) {
+            this.codec = codec;
+            this.version = version;
+        }
     }
 }
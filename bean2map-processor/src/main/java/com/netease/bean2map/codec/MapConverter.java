@@ -0,0 +1,23 @@
+package com.netease.bean2map.codec;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 指定属性使用的转换器，编译时生成对转换器的直接调用
+ * <p>
+ * 注解在字段或getter、setter上只作用于该属性；注解在类上时作用于所有该类型的属性，包括集合元素。
+ * 属性上的注解优先，并且优先于@DateFormat和内置的类型转换
+ */
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.TYPE})
+@Retention(RetentionPolicy.CLASS)
+public @interface MapConverter {
+    /**
+     * 转换器类，需要有public无参构造器，每个codec只创建一个实例
+     *
+     * @return
+     */
+    Class<? extends PropertyConverter<?>> value();
+}
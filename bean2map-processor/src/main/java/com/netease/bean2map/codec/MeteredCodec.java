@@ -0,0 +1,197 @@
+package com.netease.bean2map.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * 记录转换次数、耗时和类型转换失败的codec包装，见{@link CodecMetrics}
+ *
+ * @param <T>
+ */
+final class MeteredCodec<T> implements IMapCodec<T> {
+    private final IMapCodec<T> delegate;
+    private final CodecMetrics metrics;
+
+    MeteredCodec(IMapCodec<T> delegate, CodecMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    IMapCodec<T> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Map<String, Object> code(T entity) {
+        long start = System.nanoTime();
+        Map<String, Object> map = delegate.code(entity);
+        metrics.recordCode(System.nanoTime() - start, map.size());
+        return map;
+    }
+
+    @Override
+    public void code(T entity, PropertySink sink) {
+        long start = System.nanoTime();
+        delegate.code(entity, sink);
+        metrics.recordWrite(System.nanoTime() - start);
+    }
+
+    @Override
+    public void code(T entity, PrimitiveSink sink) {
+        long start = System.nanoTime();
+        delegate.code(entity, sink);
+        metrics.recordWrite(System.nanoTime() - start);
+    }
+
+    @Override
+    public Map<String, Object> code(T entity, Map<String, Object> target) {
+        int before = target.size();
+        long start = System.nanoTime();
+        Map<String, Object> map = delegate.code(entity, target);
+        // 复用的map中已有的元素不计入输出
+        metrics.recordCode(System.nanoTime() - start, map.size() - before);
+        return map;
+    }
+
+    @Override
+    public T decode(Map<String, Object> map) {
+        long start = System.nanoTime();
+        try {
+            T entity = delegate.decode(map);
+            metrics.recordDecode(System.nanoTime() - start);
+            return entity;
+        } catch (ClassCastException e) {
+            metrics.recordCastFailure();
+            throw e;
+        }
+    }
+
+    @Override
+    public T decodeInto(Map<String, Object> map, T target) {
+        long start = System.nanoTime();
+        try {
+            T entity = delegate.decodeInto(map, target);
+            metrics.recordDecode(System.nanoTime() - start);
+            return entity;
+        } catch (ClassCastException e) {
+            metrics.recordCastFailure();
+            throw e;
+        }
+    }
+
+    @Override
+    public T decode(PrimitiveSource source) {
+        long start = System.nanoTime();
+        try {
+            T entity = delegate.decode(source);
+            metrics.recordDecode(System.nanoTime() - start);
+            return entity;
+        } catch (ClassCastException e) {
+            metrics.recordCastFailure();
+            throw e;
+        }
+    }
+
+    @Override
+    public void codeToBytes(T entity, ByteSink sink) {
+        long start = System.nanoTime();
+        delegate.codeToBytes(entity, sink);
+        metrics.recordWrite(System.nanoTime() - start);
+    }
+
+    @Override
+    public T decodeFromBytes(Map<byte[], byte[]> map) {
+        long start = System.nanoTime();
+        try {
+            T entity = delegate.decodeFromBytes(map);
+            metrics.recordDecode(System.nanoTime() - start);
+            return entity;
+        } catch (ClassCastException e) {
+            metrics.recordCastFailure();
+            throw e;
+        }
+    }
+
+    @Override
+    public void writeTo(T entity, ByteBuffer buffer) {
+        long start = System.nanoTime();
+        delegate.writeTo(entity, buffer);
+        metrics.recordWrite(System.nanoTime() - start);
+    }
+
+    @Override
+    public T readFrom(ByteBuffer buffer) {
+        long start = System.nanoTime();
+        try {
+            T entity = delegate.readFrom(buffer);
+            metrics.recordDecode(System.nanoTime() - start);
+            return entity;
+        } catch (ClassCastException e) {
+            metrics.recordCastFailure();
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> filter(Map<String, Object> map) {
+        long start = System.nanoTime();
+        Map<String, Object> result = delegate.filter(map);
+        metrics.recordFilter(System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> view(T entity) {
+        return delegate.view(entity);
+    }
+
+    @Override
+    public Object get(T entity, String name) {
+        return delegate.get(entity, name);
+    }
+
+    @Override
+    public boolean set(T entity, String name, Object value) {
+        try {
+            return delegate.set(entity, name, value);
+        } catch (ClassCastException e) {
+            metrics.recordCastFailure();
+            throw e;
+        }
+    }
+
+    @Override
+    public PropertySchema schema() {
+        return delegate.schema();
+    }
+
+    @Override
+    public Object get(T entity, int ordinal) {
+        return delegate.get(entity, ordinal);
+    }
+
+    @Override
+    public boolean set(T entity, int ordinal, Object value) {
+        try {
+            return delegate.set(entity, ordinal, value);
+        } catch (ClassCastException e) {
+            metrics.recordCastFailure();
+            throw e;
+        }
+    }
+
+    @Override
+    public Projection<T> projection(String... names) {
+        return delegate.projection(names);
+    }
+
+    @Override
+    public Map<String, Object> diff(T before, T after) {
+        return delegate.diff(before, after);
+    }
+
+    @Override
+    public String toString() {
+        return "Metered" + delegate;
+    }
+}
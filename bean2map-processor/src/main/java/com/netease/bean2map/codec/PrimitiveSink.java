@@ -0,0 +1,30 @@
+package com.netease.bean2map.codec;
+
+/**
+ * 支持基本类型的{@link PropertySink}，基本类型的属性不装箱直接写出
+ * <p>
+ * 默认实现装箱后调用{@link #put(String, Object)}
+ */
+@FunctionalInterface
+public interface PrimitiveSink extends PropertySink {
+
+    default void putInt(String key, int value) {
+        put(key, value);
+    }
+
+    default void putLong(String key, long value) {
+        put(key, value);
+    }
+
+    default void putFloat(String key, float value) {
+        put(key, value);
+    }
+
+    default void putDouble(String key, double value) {
+        put(key, value);
+    }
+
+    default void putBoolean(String key, boolean value) {
+        put(key, value);
+    }
+}
@@ -0,0 +1,45 @@
+package com.netease.bean2map.codec;
+
+/**
+ * decode的数据来源，基本类型的属性不经过装箱直接读取
+ * <p>
+ * 默认实现读取{@link #get(String)}后按{@link TypeUtils}的规则转换
+ */
+@FunctionalInterface
+public interface PrimitiveSource {
+    /**
+     * @param key 属性名
+     * @return 不存在时返回null
+     */
+    Object get(String key);
+
+    /**
+     * 属性是否存在，存在时才会调用getXxx读取基本类型
+     *
+     * @param key 属性名
+     * @return
+     */
+    default boolean contains(String key) {
+        return get(key) != null;
+    }
+
+    default int getInt(String key) {
+        return TypeUtils.intValue(get(key));
+    }
+
+    default long getLong(String key) {
+        return TypeUtils.longValue(get(key));
+    }
+
+    default float getFloat(String key) {
+        return TypeUtils.floatValue(get(key));
+    }
+
+    default double getDouble(String key) {
+        return TypeUtils.doubleValue(get(key));
+    }
+
+    default boolean getBoolean(String key) {
+        return TypeUtils.booleanValue(get(key));
+    }
+}
@@ -0,0 +1,88 @@
+package com.netease.bean2map.codec;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预编译的属性投影，只编码选中的属性，规则与code()一致
+ * <p>
+ * 创建时将属性名解析为下标，编码时按下标直接读取，线程安全，可缓存后重复使用
+ *
+ * @param <T>
+ */
+public final class Projection<T> {
+    private final IMapCodec<T> codec;
+    private final KeyIndex keys;
+    private final int[] ordinals;
+
+    /**
+     * @param codec
+     * @param names 选中的属性名，按此顺序输出
+     * @throws IllegalArgumentException 属性名不存在、不可读或重复
+     */
+    public Projection(IMapCodec<T> codec, String... names) {
+        PropertySchema schema = codec.schema();
+        this.codec = codec;
+        this.keys = new KeyIndex(names);
+        this.ordinals = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            PropertySchema.Property property = schema.property(names[i]);
+            if (property == null || !property.isReadable()) {
+                throw new IllegalArgumentException("no readable property:" + names[i]);
+            }
+            ordinals[i] = property.getOrdinal();
+        }
+    }
+
+    /**
+     * 选中的属性个数
+     *
+     * @return
+     */
+    public int size() {
+        return ordinals.length;
+    }
+
+    /**
+     * javabean中选中的属性转map
+     *
+     * @param entity
+     * @return
+     */
+    public Map<String, Object> code(T entity) {
+        IndexedMap map = new IndexedMap(keys);
+        for (int i = 0; i < ordinals.length; i++) {
+            Object value = codec.get(entity, ordinals[i]);
+            if (value != null) {
+                map.set(i, value);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * javabean中选中的属性依次写入sink
+     *
+     * @param entity
+     * @param sink
+     */
+    public void code(T entity, PropertySink sink) {
+        for (int i = 0; i < ordinals.length; i++) {
+            Object value = codec.get(entity, ordinals[i]);
+            if (value != null) {
+                sink.put(keys.key(i), value);
+            }
+        }
+    }
+
+    /**
+     * 批量转换，输出与输入顺序一致，null元素转换为null
+     *
+     * @param entities
+     * @return
+     */
+    public List<Map<String, Object>> codeAll(Collection<? extends T> entities) {
+        return Batches.map(entities, this::code);
+    }
+}
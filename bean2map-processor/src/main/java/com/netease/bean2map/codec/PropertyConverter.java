@@ -0,0 +1,25 @@
+package com.netease.bean2map.codec;
+
+/**
+ * 属性值与map中的值之间的转换器，通过{@link MapConverter}指定，实现需要线程安全
+ *
+ * @param <T> 属性类型
+ */
+public interface PropertyConverter<T> {
+    /**
+     * 属性值转换为map中的值
+     *
+     * @param value 非null
+     * @return
+     */
+    Object encode(T value);
+
+    /**
+     * map中的值转换为属性值
+     *
+     * @param value 非null
+     * @return
+     * @throws ClassCastException 无法转换时抛出
+     */
+    T decode(Object value);
+}
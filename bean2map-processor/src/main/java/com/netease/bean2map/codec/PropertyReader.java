@@ -0,0 +1,16 @@
+package com.netease.bean2map.codec;
+
+/**
+ * 按属性下标读取javabean中编码后的属性值
+ *
+ * @param <T>
+ */
+@FunctionalInterface
+public interface PropertyReader<T> {
+    /**
+     * @param entity javabean
+     * @param index  属性下标
+     * @return 与code()一致的属性值，不存在时返回null
+     */
+    Object read(T entity, int index);
+}
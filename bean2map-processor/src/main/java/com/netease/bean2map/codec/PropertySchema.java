@@ -0,0 +1,238 @@
+package com.netease.bean2map.codec;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * codec的属性元数据，由生成的codec静态创建，属性下标与code()输出的{@link IndexedMap}一致
+ * <p>
+ * 按列导出等场景可先用{@link #indexOf(String)}解析出下标，再通过{@link IMapCodec#get(Object, int)}按下标读取
+ */
+public final class PropertySchema {
+    private final KeyIndex keys;
+    private final List<Property> properties;
+    /**
+     * 前n个属性的指纹，长度为属性个数+1
+     */
+    private final int[] fingerprints;
+    /**
+     * 每个属性单独的16位哈希
+     */
+    private final short[] hashes;
+
+    public PropertySchema(KeyIndex keys, Property... properties) {
+        if (keys.size() != properties.length) {
+            throw new IllegalArgumentException("expect " + keys.size() + " properties, but " + properties.length);
+        }
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i].ordinal != i || !properties[i].name.equals(keys.key(i))) {
+                throw new IllegalArgumentException("property " + properties[i] + " mismatch key " + keys.key(i) + "#" + i);
+            }
+        }
+        this.keys = keys;
+        this.properties = Collections.unmodifiableList(Arrays.asList(properties.clone()));
+        this.fingerprints = new int[properties.length + 1];
+        this.hashes = new short[properties.length];
+        // FNV-1a，只依赖属性名和类型名，不同JVM间结果一致
+        fingerprints[0] = 0x811c9dc5;
+        for (int i = 0; i < properties.length; i++) {
+            int single = hash(hash(0x811c9dc5, properties[i].name), properties[i].type.getName());
+            hashes[i] = (short) (single ^ single >>> 16);
+            fingerprints[i + 1] = extend(fingerprints[i], hashes[i]);
+        }
+    }
+
+    /**
+     * 指纹依次由每个属性的哈希累加，已知前缀的指纹和之后属性的哈希即可算出更长前缀的指纹
+     */
+    static int extend(int fingerprint, short hash) {
+        fingerprint = (fingerprint ^ (hash & 0xFF)) * 0x01000193;
+        return (fingerprint ^ (hash >>> 8 & 0xFF)) * 0x01000193;
+    }
+
+    private static int hash(int hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x01000193;
+        }
+        return (hash ^ ';') * 0x01000193;
+    }
+
+    /**
+     * 属性个数
+     *
+     * @return
+     */
+    public int size() {
+        return properties.size();
+    }
+
+    /**
+     * 属性名对应的下标
+     *
+     * @param name
+     * @return 不存在时返回-1
+     */
+    public int indexOf(String name) {
+        return keys.indexOf(name);
+    }
+
+    /**
+     * @param ordinal 属性下标
+     * @return
+     */
+    public Property property(int ordinal) {
+        return properties.get(ordinal);
+    }
+
+    /**
+     * @param name 属性名
+     * @return 不存在时返回null
+     */
+    public Property property(String name) {
+        int index = keys.indexOf(name);
+        return index >= 0 ? properties.get(index) : null;
+    }
+
+    /**
+     * 按下标排列的所有属性，不可修改
+     *
+     * @return
+     */
+    public List<Property> properties() {
+        return properties;
+    }
+
+    public KeyIndex keyIndex() {
+        return keys;
+    }
+
+    /**
+     * 按下标顺序由属性名和类型计算的指纹，用于判断二进制数据中的下标是否可信
+     *
+     * @return
+     */
+    public int fingerprint() {
+        return fingerprints[properties.size()];
+    }
+
+    /**
+     * 前size个属性的指纹，在末尾追加属性不影响已有前缀的指纹
+     *
+     * @param size 属性个数，不超过{@link #size()}
+     * @return
+     */
+    public int fingerprint(int size) {
+        return fingerprints[size];
+    }
+
+    /**
+     * 单个属性由属性名和类型计算的16位哈希，供属性更少的读取方由本地前缀的指纹推算写出方的指纹
+     *
+     * @param ordinal 属性下标
+     * @return
+     */
+    public short hash(int ordinal) {
+        return hashes[ordinal];
+    }
+
+    @Override
+    public String toString() {
+        return properties.toString();
+    }
+
+    /**
+     * 单个属性的元数据
+     */
+    public static final class Property {
+        private final String name;
+        private final int ordinal;
+        private final Class<?> type;
+        private final boolean readable;
+        private final boolean writable;
+        private final String datePattern;
+        private final boolean timestamp;
+        private final boolean structured;
+
+        /**
+         * code()的值按属性类型判断，集合和Map类型为structured
+         *
+         * @param name        属性名
+         * @param ordinal     属性下标
+         * @param type        getter返回类型，没有getter时为setter参数类型，泛型已擦除
+         * @param readable    是否有getter
+         * @param writable    是否有setter
+         * @param datePattern {@link DateFormat#pattern()}，未注解时为null
+         * @param timestamp   {@link DateFormat#timestamp()}
+         */
+        public Property(String name, int ordinal, Class<?> type, boolean readable, boolean writable,
+                        String datePattern, boolean timestamp) {
+            this(name, ordinal, type, readable, writable, datePattern, timestamp, ByteValues.isStructured(type));
+        }
+
+        /**
+         * @param name        属性名
+         * @param ordinal     属性下标
+         * @param type        getter返回类型，没有getter时为setter参数类型，泛型已擦除
+         * @param readable    是否有getter
+         * @param writable    是否有setter
+         * @param datePattern {@link DateFormat#pattern()}，未注解时为null
+         * @param timestamp   {@link DateFormat#timestamp()}
+         * @param structured  code()的值是否为集合或Map，如嵌套的javabean
+         */
+        public Property(String name, int ordinal, Class<?> type, boolean readable, boolean writable,
+                        String datePattern, boolean timestamp, boolean structured) {
+            this.name = name;
+            this.ordinal = ordinal;
+            this.type = type;
+            this.readable = readable;
+            this.writable = writable;
+            this.datePattern = datePattern;
+            this.timestamp = timestamp;
+            this.structured = structured;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public boolean isReadable() {
+            return readable;
+        }
+
+        public boolean isWritable() {
+            return writable;
+        }
+
+        /**
+         * @return 未注解@DateFormat时返回null
+         */
+        public String getDatePattern() {
+            return datePattern;
+        }
+
+        public boolean isTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * @return code()的值为集合或Map时返回true，codeToBytes()按{@link BinaryFormat}写出
+         */
+        public boolean isStructured() {
+            return structured;
+        }
+
+        @Override
+        public String toString() {
+            return name + "#" + ordinal + ":" + type.getName();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.netease.bean2map.codec;
+
+/**
+ * 接收javabean编码后的属性，用于不经过中间Map直接写出
+ */
+@FunctionalInterface
+public interface PropertySink {
+    /**
+     * @param key   属性名
+     * @param value 与code()一致的属性值，非null
+     */
+    void put(String key, Object value);
+}
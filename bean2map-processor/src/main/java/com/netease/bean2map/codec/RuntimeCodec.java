@@ -0,0 +1,376 @@
+package com.netease.bean2map.codec;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 运行时为未注解@MapCodec的javabean创建的codec，用于无法修改源码的第三方类
+ * <p>
+ * 创建时内省一次，getter、setter和无参构造器通过{@link LambdaMetafactory}绑定为函数对象，之后的调用不经过反射。
+ * javabean不是由本类的classloader或其父级加载时(如webapp中的类)直接调用MethodHandle，
+ * lambda类定义在本类的classloader中，既无法解析这些类，也会阻止它们被回收。
+ * 值的转换与生成的codec一致，但不支持@DateFormat和@EnumFormat，嵌套的javabean、枚举和集合原样输出
+ *
+ * @param <T>
+ */
+public final class RuntimeCodec<T> implements IMapCodec<T> {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final ClassLoader LOADER = RuntimeCodec.class.getClassLoader();
+
+    private final Class<T> type;
+    private final Supplier<T> constructor;
+    private final KeyIndex keys;
+    private final PropertySchema schema;
+    private final Function<Object, Object>[] getters;
+    private final BiConsumer<Object, Object>[] setters;
+    private final Function<Object, Object>[] converters;
+    private final PropertyReader<T> reader = this::get;
+
+    @SuppressWarnings("unchecked")
+    private RuntimeCodec(Class<T> type, List<PropertyDescriptor> descriptors) {
+        int size = descriptors.size();
+        String[] names = new String[size];
+        PropertySchema.Property[] properties = new PropertySchema.Property[size];
+        this.type = type;
+        this.constructor = constructor(type);
+        this.getters = new Function[size];
+        this.setters = new BiConsumer[size];
+        this.converters = new Function[size];
+        for (int i = 0; i < size; i++) {
+            PropertyDescriptor descriptor = descriptors.get(i);
+            Method getter = descriptor.getReadMethod();
+            Method setter = descriptor.getWriteMethod();
+            names[i] = descriptor.getName();
+            properties[i] = new PropertySchema.Property(names[i], i, descriptor.getPropertyType(),
+                    getter != null, setter != null, null, false);
+            if (getter != null) {
+                getters[i] = getter(getter);
+            }
+            if (setter != null) {
+                setters[i] = setter(setter);
+                converters[i] = converter(setter.getParameterTypes()[0]);
+            }
+        }
+        this.keys = new KeyIndex(names);
+        this.schema = new PropertySchema(keys, properties);
+    }
+
+    /**
+     * 内省javabean，只使用public类中的public方法
+     *
+     * @param type
+     * @param <T>
+     * @return
+     * @throws IllegalArgumentException 无法内省或绑定时抛出
+     */
+    public static <T> RuntimeCodec<T> create(Class<T> type) {
+        try {
+            BeanInfo beanInfo = Introspector.getBeanInfo(type, Object.class);
+            List<PropertyDescriptor> descriptors = new ArrayList<>();
+            for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+                if (descriptor.getPropertyType() != null
+                        && (isPublic(descriptor.getReadMethod()) || isPublic(descriptor.getWriteMethod()))) {
+                    descriptors.add(descriptor);
+                }
+            }
+            return new RuntimeCodec<>(type, descriptors);
+        } catch (IntrospectionException e) {
+            throw new IllegalArgumentException("can not introspect " + type.getName(), e);
+        }
+    }
+
+    private static boolean isPublic(Method method) {
+        return method != null && Modifier.isPublic(method.getModifiers())
+                && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public Map<String, Object> code(T entity) {
+        IndexedMap map = new IndexedMap(keys);
+        for (int i = 0; i < getters.length; i++) {
+            Object value = get(entity, i);
+            if (value != null) {
+                map.set(i, value);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public void code(T entity, PropertySink sink) {
+        for (int i = 0; i < getters.length; i++) {
+            Object value = get(entity, i);
+            if (value != null) {
+                sink.put(keys.key(i), value);
+            }
+        }
+    }
+
+    @Override
+    public T decode(Map<String, Object> map) {
+        if (constructor == null) {
+            throw new UnsupportedOperationException("no public constructor without arguments:" + type.getName());
+        }
+        return decodeInto(map, constructor.get());
+    }
+
+    @Override
+    public T decodeInto(Map<String, Object> map, T target) {
+        for (int i = 0; i < setters.length; i++) {
+            if (setters[i] != null) {
+                Object value = map.get(keys.key(i));
+                if (value != null) {
+                    setters[i].accept(target, converters[i].apply(value));
+                }
+            }
+        }
+        return target;
+    }
+
+    @Override
+    public Map<String, Object> filter(Map<String, Object> map) {
+        IndexedMap result = new IndexedMap(keys);
+        for (int i = 0; i < getters.length; i++) {
+            if (getters[i] != null) {
+                Object value = map.get(keys.key(i));
+                if (value != null) {
+                    result.set(i, value);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> view(T entity) {
+        return new BeanMapView<>(keys, entity, reader);
+    }
+
+    @Override
+    public Object get(T entity, String name) {
+        return get(entity, keys.indexOf(name));
+    }
+
+    @Override
+    public boolean set(T entity, String name, Object value) {
+        return set(entity, keys.indexOf(name), value);
+    }
+
+    @Override
+    public PropertySchema schema() {
+        return schema;
+    }
+
+    @Override
+    public Object get(T entity, int ordinal) {
+        if (ordinal < 0 || ordinal >= getters.length || getters[ordinal] == null) {
+            return null;
+        }
+        return getters[ordinal].apply(entity);
+    }
+
+    @Override
+    public boolean set(T entity, int ordinal, Object value) {
+        if (ordinal < 0 || ordinal >= setters.length || setters[ordinal] == null) {
+            return false;
+        }
+        Class<?> parameterType = schema.property(ordinal).getType();
+        // 与生成的codec一致，基本类型的属性不接受null
+        setters[ordinal].accept(entity, value != null || parameterType.isPrimitive() ? converters[ordinal].apply(value) : null);
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "RuntimeCodec" + schema;
+    }
+
+    /**
+     * 与生成的codec一致的类型转换，基本类型使用xxxValue，不接受null
+     */
+    private static Function<Object, Object> converter(Class<?> type) {
+        if (type == int.class) {
+            return TypeUtils::intValue;
+        } else if (type == long.class) {
+            return TypeUtils::longValue;
+        } else if (type == float.class) {
+            return TypeUtils::floatValue;
+        } else if (type == double.class) {
+            return TypeUtils::doubleValue;
+        } else if (type == boolean.class) {
+            return TypeUtils::booleanValue;
+        } else if (type == Integer.class) {
+            return TypeUtils::castToInt;
+        } else if (type == Long.class) {
+            return TypeUtils::castToLong;
+        } else if (type == Float.class) {
+            return TypeUtils::castToFloat;
+        } else if (type == Double.class) {
+            return TypeUtils::castToDouble;
+        } else if (type == Boolean.class) {
+            return TypeUtils::castToBoolean;
+        } else if (type == byte.class || type == Byte.class) {
+            return value -> nonNull(TypeUtils.castToByte(value), type);
+        } else if (type == short.class || type == Short.class) {
+            return value -> nonNull(TypeUtils.castToShort(value), type);
+        } else if (type == char.class || type == Character.class) {
+            return value -> nonNull(TypeUtils.castToChar(value), type);
+        } else if (type == Date.class) {
+            return TypeUtils::castToDate;
+        } else if (type == LocalDateTime.class) {
+            return TypeUtils::castToLocalDateTime;
+        } else if (type == LocalDate.class) {
+            return TypeUtils::castToLocalDate;
+        } else if (type == Instant.class) {
+            return TypeUtils::castToInstant;
+        } else if (type == BigDecimal.class) {
+            return TypeUtils::castToBigDecimal;
+        } else if (type == UUID.class) {
+            return TypeUtils::castToUUID;
+        } else if (type.isEnum()) {
+            return enumLookup(type)::decode;
+        }
+        // 由setter强转，类型不符时抛出ClassCastException
+        return Function.identity();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static EnumLookup<?> enumLookup(Class<?> type) {
+        return new EnumLookup(type);
+    }
+
+    private static Object nonNull(Object value, Class<?> type) {
+        if (value == null && type.isPrimitive()) {
+            throw new ClassCastException("can not cast to " + type.getName() + ", value : null");
+        }
+        return value;
+    }
+
+    /**
+     * 类是否由本类的classloader或其父级加载，只有这些类可以出现在lambda的签名中
+     */
+    private static boolean bindable(Class<?>... types) {
+        for (Class<?> type : types) {
+            ClassLoader loader = type.getClassLoader();
+            boolean visible = loader == null;
+            for (ClassLoader l = LOADER; !visible && l != null; l = l.getParent()) {
+                visible = l == loader;
+            }
+            if (!visible) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> constructor(Class<T> type) {
+        if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.findConstructor(type, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+        if (bindable(type)) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class), handle, MethodType.methodType(type));
+                return (Supplier<T>) site.getTarget().invoke();
+            } catch (Throwable e) {
+                // 退化为MethodHandle调用
+            }
+        }
+        MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+        return () -> (T) invoke(() -> generic.invokeExact());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Method method) {
+        MethodHandle handle = unreflect(method);
+        Class<?> returnType = MethodType.methodType(method.getReturnType()).wrap().returnType();
+        if (bindable(method.getDeclaringClass(), returnType)) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class), handle,
+                        MethodType.methodType(returnType, method.getDeclaringClass()));
+                return (Function<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable e) {
+                // 退化为MethodHandle调用
+            }
+        }
+        MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return entity -> invoke(() -> generic.invokeExact(entity));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(Method method) {
+        MethodHandle handle = unreflect(method);
+        Class<?> parameterType = MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType();
+        if (bindable(method.getDeclaringClass(), parameterType)) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class), handle,
+                        MethodType.methodType(void.class, method.getDeclaringClass(), parameterType));
+                return (BiConsumer<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable e) {
+                // 退化为MethodHandle调用
+            }
+        }
+        MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (entity, value) -> invoke(() -> {
+            generic.invokeExact(entity, value);
+            return null;
+        });
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("can not access " + method, e);
+        }
+    }
+
+    private static Object invoke(Invocation invocation) {
+        try {
+            return invocation.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke() throws Throwable;
+    }
+}
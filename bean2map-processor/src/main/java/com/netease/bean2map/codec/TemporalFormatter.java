@@ -0,0 +1,240 @@
+package com.netease.bean2map.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * java.time类型的格式化器，线程安全，每个pattern只需创建一次
+ * <p>
+ * {@link DateFormat#DATE}和{@link DateFormat#DATETIME}两种固定格式的{@link LocalDate}、{@link LocalDateTime}直接按字符读写，
+ * 其余情况使用{@link DateTimeFormatter}。pattern包含时间字段时{@link LocalDate}按当天0点格式化。{@link Instant}按创建时的默认时区格式化
+ */
+public final class TemporalFormatter {
+    private static final int GENERIC = 0;
+    private static final int DATE = 1;
+    private static final int DATETIME = 2;
+
+    private final String pattern;
+    private final int shape;
+    private final DateTimeFormatter formatter;
+    /**
+     * pattern是否包含时间字段，如默认的{@link DateFormat#DATETIME}，此时{@link LocalDate}按当天0点格式化
+     */
+    private final boolean dateWithTime;
+
+    public TemporalFormatter(String pattern) {
+        this(pattern, ZoneId.systemDefault());
+    }
+
+    public TemporalFormatter(String pattern, ZoneId zone) {
+        this.pattern = pattern;
+        this.formatter = DateTimeFormatter.ofPattern(pattern).withZone(zone);
+        if (DateFormat.DATE.equals(pattern)) {
+            this.shape = DATE;
+        } else if (DateFormat.DATETIME.equals(pattern)) {
+            this.shape = DATETIME;
+        } else {
+            this.shape = GENERIC;
+        }
+        this.dateWithTime = requiresTime(formatter);
+    }
+
+    /**
+     * 只在创建时尝试一次，格式化时不再依赖异常判断
+     */
+    private static boolean requiresTime(DateTimeFormatter formatter) {
+        try {
+            formatter.format(LocalDate.of(2000, 1, 1));
+            return false;
+        } catch (DateTimeException e) {
+            return true;
+        }
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public String format(LocalDate date) {
+        byte[] bytes = fastFormat(date);
+        return bytes != null ? new String(bytes, StandardCharsets.ISO_8859_1) : formatter.format(widen(date));
+    }
+
+    public String format(LocalDateTime dateTime) {
+        byte[] bytes = fastFormat(dateTime);
+        return bytes != null ? new String(bytes, StandardCharsets.ISO_8859_1) : formatter.format(dateTime);
+    }
+
+    public String format(Instant instant) {
+        return formatter.format(instant);
+    }
+
+    /**
+     * 格式化为UTF-8字节，固定格式直接写入byte[]，不经过String
+     */
+    public byte[] formatBytes(LocalDate date) {
+        byte[] bytes = fastFormat(date);
+        return bytes != null ? bytes : formatter.format(widen(date)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public byte[] formatBytes(LocalDateTime dateTime) {
+        byte[] bytes = fastFormat(dateTime);
+        return bytes != null ? bytes : formatter.format(dateTime).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public byte[] formatBytes(Instant instant) {
+        return formatter.format(instant).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return 无法走快速路径时返回null
+     */
+    private byte[] fastFormat(LocalDate date) {
+        if (shape == DATE && inRange(date.getYear())) {
+            byte[] buf = new byte[10];
+            writeDate(buf, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+            return buf;
+        }
+        return shape == DATETIME ? fastFormat(date.atStartOfDay()) : null;
+    }
+
+    private TemporalAccessor widen(LocalDate date) {
+        return dateWithTime ? date.atStartOfDay() : date;
+    }
+
+    private byte[] fastFormat(LocalDateTime dateTime) {
+        if (shape == DATETIME && inRange(dateTime.getYear())) {
+            byte[] buf = new byte[19];
+            writeDate(buf, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+            buf[10] = ' ';
+            write2(buf, 11, dateTime.getHour());
+            buf[13] = ':';
+            write2(buf, 14, dateTime.getMinute());
+            buf[16] = ':';
+            write2(buf, 17, dateTime.getSecond());
+            return buf;
+        }
+        return shape == DATE ? fastFormat(dateTime.toLocalDate()) : null;
+    }
+
+    /**
+     * @param text
+     * @return
+     * @throws DateTimeException 格式不符时抛出
+     */
+    public LocalDate parseLocalDate(String text) {
+        if (shape == DATE && isDate(text, 10) && !isYearZero(text)) {
+            try {
+                return LocalDate.of(read(text, 0, 4), read(text, 5, 2), read(text, 8, 2));
+            } catch (DateTimeException e) {
+                // 如2020-02-30，交给DateTimeFormatter按SMART规则处理，结果保持一致
+            }
+        }
+        if (shape == DATETIME) {
+            return parseLocalDateTime(text).toLocalDate();
+        }
+        return formatter.parse(text, LocalDate::from);
+    }
+
+    /**
+     * 格式只包含日期时取当天0点
+     *
+     * @param text
+     * @return
+     * @throws DateTimeException 格式不符时抛出
+     */
+    public LocalDateTime parseLocalDateTime(String text) {
+        if (shape == DATETIME && isDateTime(text) && !isYearZero(text)) {
+            try {
+                return LocalDateTime.of(read(text, 0, 4), read(text, 5, 2), read(text, 8, 2),
+                        read(text, 11, 2), read(text, 14, 2), read(text, 17, 2));
+            } catch (DateTimeException e) {
+                // 同parseLocalDate
+            }
+        }
+        if (shape == DATE) {
+            return parseLocalDate(text).atStartOfDay();
+        }
+        return formatter.parse(text, LocalDateTime::from);
+    }
+
+    /**
+     * @param text
+     * @return
+     * @throws DateTimeException 格式不符时抛出
+     */
+    public Instant parseInstant(String text) {
+        if (shape == GENERIC) {
+            return formatter.parse(text, Instant::from);
+        }
+        return parseLocalDateTime(text).atZone(formatter.getZone()).toInstant();
+    }
+
+    /**
+     * 是否为yyyy-MM-dd形状，数字在解析时校验
+     */
+    static boolean isDate(String text, int length) {
+        return text.length() == length && text.charAt(4) == '-' && text.charAt(7) == '-';
+    }
+
+    /**
+     * 是否为yyyy-MM-dd HH:mm:ss形状
+     */
+    static boolean isDateTime(String text) {
+        return isDate(text, 19) && text.charAt(10) == ' ' && text.charAt(13) == ':' && text.charAt(16) == ':';
+    }
+
+    /**
+     * @throws DateTimeException 非数字时抛出
+     */
+    static int read(String text, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeException("Text '" + text + "' could not be parsed at index " + i);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * yyyy为year-of-era，公元0年及之前格式化为"0001"等纪元年份，交给DateTimeFormatter处理
+     */
+    private static boolean inRange(int year) {
+        return year >= 1 && year <= 9999;
+    }
+
+    /**
+     * 年份为0000的文本对year-of-era无效，交给DateTimeFormatter按同样的规则报错
+     */
+    private static boolean isYearZero(String text) {
+        return text.startsWith("0000");
+    }
+
+    private static void writeDate(byte[] buf, int year, int month, int day) {
+        write2(buf, 0, year / 100);
+        write2(buf, 2, year % 100);
+        buf[4] = '-';
+        write2(buf, 5, month);
+        buf[7] = '-';
+        write2(buf, 8, day);
+    }
+
+    private static void write2(byte[] buf, int offset, int value) {
+        buf[offset] = (byte) ('0' + value / 10);
+        buf[offset + 1] = (byte) ('0' + value % 10);
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -6,13 +6,24 @@
  */
 package com.netease.bean2map.codec;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.TimeZone;
+import java.util.UUID;
 
 /**
+ * 属性值的类型转换，无法转换时统一抛出ClassCastException
+ * <p>
+ * 整数和浮点数的字符串格式错误、超出范围时同样抛出ClassCastException，早期版本抛出的是NumberFormatException
+ *
  * @author Qiusheng
  */
 public class TypeUtils {
@@ -30,6 +41,10 @@ public class TypeUtils {
             return null;
         }
 
+        if (value instanceof Byte) {
+            return (Byte) value;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).byteValue();
         }
@@ -39,7 +54,7 @@ public class TypeUtils {
             if (strVal.length() == 0) {
                 return null;
             }
-            return Byte.parseByte(strVal);
+            return (byte) parseLong(strVal, Byte.MIN_VALUE, Byte.MAX_VALUE, "byte");
         }
 
         throw new ClassCastException("can not cast to byte, value : " + value);
@@ -77,6 +92,10 @@ public class TypeUtils {
             return null;
         }
 
+        if (value instanceof Short) {
+            return (Short) value;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).shortValue();
         }
@@ -86,7 +105,7 @@ public class TypeUtils {
             if (strVal.length() == 0) {
                 return null;
             }
-            return Short.parseShort(strVal);
+            return (short) parseLong(strVal, Short.MIN_VALUE, Short.MAX_VALUE, "short");
         }
 
         throw new ClassCastException("can not cast to short, value : " + value);
@@ -97,6 +116,10 @@ public class TypeUtils {
             return null;
         }
 
+        if (value instanceof Float) {
+            return (Float) value;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).floatValue();
         }
@@ -107,7 +130,7 @@ public class TypeUtils {
                 return null;
             }
 
-            return Float.parseFloat(strVal);
+            return parseFloat(strVal);
         }
 
         throw new ClassCastException("can not cast to float, value : " + value);
@@ -118,6 +141,10 @@ public class TypeUtils {
             return null;
         }
 
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).doubleValue();
         }
@@ -127,25 +154,31 @@ public class TypeUtils {
             if (strVal.length() == 0) {
                 return null;
             }
-            return Double.parseDouble(strVal);
+            return parseDouble(strVal);
         }
 
         throw new ClassCastException("can not cast to double, value : " + value);
     }
 
+    private static final DateFormatter DATE_FORMATTER = new DateFormatter(DateFormat.DATE);
+    private static final DateFormatter DATETIME_FORMATTER = new DateFormatter(DateFormat.DATETIME);
+    private static final DateFormatter ISO_UTC_FORMATTER = new DateFormatter("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'",
+            TimeZone.getTimeZone("UTC"));
+    private static final DateFormatter DATETIME_MILLIS_FORMATTER = new DateFormatter("yyyy-MM-dd HH:mm:ss.SSS");
+
     public static final Date castToDate(Object value) {
         if (value == null) {
             return null;
         }
 
-        if (value instanceof Calendar) {
-            return ((Calendar) value).getTime();
-        }
-
         if (value instanceof Date) {
             return (Date) value;
         }
 
+        if (value instanceof Calendar) {
+            return ((Calendar) value).getTime();
+        }
+
         long longValue = -1;
 
         if (value instanceof Number) {
@@ -158,21 +191,15 @@ public class TypeUtils {
             }
 
             if (strVal.indexOf('-') != -1) {
-                TimeZone timeZone = null;
-                String format;
+                DateFormatter dateFormat;
                 if (strVal.length() == 10) {
-                    format = "yyyy-MM-dd";
+                    dateFormat = DATE_FORMATTER;
                 } else if (strVal.length() == "yyyy-MM-dd HH:mm:ss".length()) {
-                    format = "yyyy-MM-dd HH:mm:ss";
+                    dateFormat = DATETIME_FORMATTER;
                 } else if (strVal.length() == "yyyy-MM-ddTHH:mm:ss.SSSZ".length()) {
-                    format = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
-                    timeZone = TimeZone.getTimeZone("UTC");
+                    dateFormat = ISO_UTC_FORMATTER;
                 } else {
-                    format = "yyyy-MM-dd HH:mm:ss.SSS";
-                }
-                SimpleDateFormat dateFormat = new SimpleDateFormat(format);
-                if (timeZone != null) {
-                    dateFormat.setTimeZone(timeZone);
+                    dateFormat = DATETIME_MILLIS_FORMATTER;
                 }
 
                 try {
@@ -183,7 +210,7 @@ public class TypeUtils {
                 }
             }
 
-            longValue = Long.parseLong(strVal);
+            longValue = parseLong(strVal);
         }
 
         if (longValue < 0) {
@@ -194,11 +221,325 @@ public class TypeUtils {
         return new Date(longValue);
     }
 
+    /**
+     * 字符串优先按属性上声明的格式解析
+     *
+     * @param value
+     * @param dateFormat 属性的日期格式
+     * @return
+     */
+    public static final Date castToDate(Object value, DateFormatter dateFormat) {
+        if (value instanceof String && ((String) value).length() != 0) {
+            try {
+                return dateFormat.parse((String) value);
+            } catch (ParseException e) {
+                // 格式不符时按通用规则转换
+            }
+        }
+        return castToDate(value);
+    }
+
+    /**
+     * 字符串支持yyyy-MM-dd、yyyy-MM-dd HH:mm:ss和ISO-8601格式，数字按毫秒时间戳在默认时区转换
+     *
+     * @param value
+     * @return
+     */
+    public static final LocalDateTime castToLocalDateTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay();
+        }
+
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0) {
+                return null;
+            }
+            if (strVal.indexOf('-') != -1) {
+                try {
+                    return parseLocalDateTime(strVal);
+                } catch (DateTimeException e) {
+                    throw new ClassCastException("can not cast to LocalDateTime, value : " + strVal);
+                }
+            }
+        }
+
+        return LocalDateTime.ofInstant(toInstant(value, "LocalDateTime"), ZoneId.systemDefault());
+    }
+
+    /**
+     * 字符串优先按属性上声明的格式解析
+     *
+     * @param value
+     * @param formatter 属性的日期格式
+     * @return
+     */
+    public static final LocalDateTime castToLocalDateTime(Object value, TemporalFormatter formatter) {
+        if (value instanceof String && ((String) value).length() != 0) {
+            try {
+                return formatter.parseLocalDateTime((String) value);
+            } catch (DateTimeException e) {
+                // 格式不符时按通用规则转换
+            }
+        }
+        return castToLocalDateTime(value);
+    }
+
+    /**
+     * 字符串支持yyyy-MM-dd及castToLocalDateTime支持的格式，时间部分被舍弃
+     *
+     * @param value
+     * @return
+     */
+    public static final LocalDate castToLocalDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (TemporalFormatter.isDate(strVal, 10)) {
+                try {
+                    return LocalDate.of(TemporalFormatter.read(strVal, 0, 4), TemporalFormatter.read(strVal, 5, 2),
+                            TemporalFormatter.read(strVal, 8, 2));
+                } catch (DateTimeException e) {
+                    throw new ClassCastException("can not cast to LocalDate, value : " + strVal);
+                }
+            }
+        }
+
+        LocalDateTime dateTime = castToLocalDateTime(value);
+        return dateTime == null ? null : dateTime.toLocalDate();
+    }
+
+    public static final LocalDate castToLocalDate(Object value, TemporalFormatter formatter) {
+        if (value instanceof String && ((String) value).length() != 0) {
+            try {
+                return formatter.parseLocalDate((String) value);
+            } catch (DateTimeException e) {
+                // 格式不符时按通用规则转换
+            }
+        }
+        return castToLocalDate(value);
+    }
+
+    /**
+     * 字符串支持ISO-8601格式(如2014-03-22T10:15:30Z)，不带时区的日期按默认时区转换
+     *
+     * @param value
+     * @return
+     */
+    public static final Instant castToInstant(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof Instant) {
+            return (Instant) value;
+        }
+
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant();
+        }
+
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        }
+
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0) {
+                return null;
+            }
+            if (strVal.indexOf('-') != -1) {
+                try {
+                    if (strVal.charAt(strVal.length() - 1) == 'Z') {
+                        return Instant.parse(strVal);
+                    }
+                    return parseLocalDateTime(strVal).atZone(ZoneId.systemDefault()).toInstant();
+                } catch (DateTimeException e) {
+                    throw new ClassCastException("can not cast to Instant, value : " + strVal);
+                }
+            }
+        }
+
+        return toInstant(value, "Instant");
+    }
+
+    public static final Instant castToInstant(Object value, TemporalFormatter formatter) {
+        if (value instanceof String && ((String) value).length() != 0) {
+            try {
+                return formatter.parseInstant((String) value);
+            } catch (DateTimeException e) {
+                // 格式不符时按通用规则转换
+            }
+        }
+        return castToInstant(value);
+    }
+
+    /**
+     * 毫秒时间戳，用于@DateFormat(timestamp = true)
+     */
+    public static final long toEpochMilli(LocalDateTime value) {
+        return value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static final long toEpochMilli(LocalDate value) {
+        return value.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static final long toEpochMilli(Instant value) {
+        return value.toEpochMilli();
+    }
+
+    /**
+     * Date、Calendar、数字和数字字符串按毫秒时间戳转换
+     */
+    private static Instant toInstant(Object value, String type) {
+        if (value instanceof Date) {
+            return Instant.ofEpochMilli(((Date) value).getTime());
+        }
+
+        if (value instanceof Calendar) {
+            return Instant.ofEpochMilli(((Calendar) value).getTimeInMillis());
+        }
+
+        if (value instanceof Number) {
+            return Instant.ofEpochMilli(((Number) value).longValue());
+        }
+
+        if (value instanceof String) {
+            try {
+                return Instant.ofEpochMilli(parseLong((String) value));
+            } catch (ClassCastException e) {
+                // 统一为下面的异常信息
+            }
+        }
+
+        throw new ClassCastException("can not cast to " + type + ", value : " + value);
+    }
+
+    /**
+     * yyyy-MM-dd和yyyy-MM-dd HH:mm:ss按字符解析，其余交给ISO-8601解析
+     *
+     * @throws DateTimeException 格式不符时抛出
+     */
+    private static LocalDateTime parseLocalDateTime(String value) {
+        if (TemporalFormatter.isDateTime(value)) {
+            return LocalDateTime.of(TemporalFormatter.read(value, 0, 4), TemporalFormatter.read(value, 5, 2),
+                    TemporalFormatter.read(value, 8, 2), TemporalFormatter.read(value, 11, 2),
+                    TemporalFormatter.read(value, 14, 2), TemporalFormatter.read(value, 17, 2));
+        }
+        if (TemporalFormatter.isDate(value, 10)) {
+            return LocalDate.of(TemporalFormatter.read(value, 0, 4), TemporalFormatter.read(value, 5, 2),
+                    TemporalFormatter.read(value, 8, 2)).atStartOfDay();
+        }
+        if (value.charAt(value.length() - 1) == 'Z') {
+            return LocalDateTime.ofInstant(Instant.parse(value), ZoneId.systemDefault());
+        }
+        return LocalDateTime.parse(value);
+    }
+
+    public static final BigDecimal castToBigDecimal(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+
+        if (value instanceof Number) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                throw new ClassCastException("can not cast to BigDecimal, value : " + value);
+            }
+            // 按十进制字符串转换，0.1不会变成0.1000000000000000055511151231257827
+            return BigDecimal.valueOf(doubleValue);
+        }
+
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0) {
+                return null;
+            }
+            try {
+                return new BigDecimal(strVal);
+            } catch (NumberFormatException e) {
+                throw new ClassCastException("can not cast to BigDecimal, value : " + strVal);
+            }
+        }
+
+        throw new ClassCastException("can not cast to BigDecimal, value : " + value);
+    }
+
+    public static final UUID castToUUID(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof UUID) {
+            return (UUID) value;
+        }
+
+        if (value instanceof String) {
+            String strVal = (String) value;
+            if (strVal.length() == 0) {
+                return null;
+            }
+            // 只接受标准的36位格式，按字符解析，不经过UUID.fromString的split
+            if (strVal.length() == 36 && strVal.charAt(8) == '-' && strVal.charAt(13) == '-'
+                    && strVal.charAt(18) == '-' && strVal.charAt(23) == '-') {
+                long most = parseHex(strVal, 0, 8) << 32 | parseHex(strVal, 9, 13) << 16 | parseHex(strVal, 14, 18);
+                long least = parseHex(strVal, 19, 23) << 48 | parseHex(strVal, 24, 36);
+                return new UUID(most, least);
+            }
+        }
+
+        throw new ClassCastException("can not cast to UUID, value : " + value);
+    }
+
+    private static long parseHex(String value, int begin, int end) {
+        long result = 0;
+        for (int i = begin; i < end; i++) {
+            int digit = Character.digit(value.charAt(i), 16);
+            if (digit < 0) {
+                throw new ClassCastException("can not cast to UUID, value : " + value);
+            }
+            result = result << 4 | digit;
+        }
+        return result;
+    }
+
     public static final Long castToLong(Object value) {
         if (value == null) {
             return null;
         }
 
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+
         if (value instanceof Number) {
             return ((Number) value).longValue();
         }
@@ -209,11 +550,7 @@ public class TypeUtils {
                 return null;
             }
 
-            try {
-                return Long.parseLong(strVal);
-            } catch (NumberFormatException ex) {
-                //
-            }
+            return parseLong(strVal);
         }
 
         throw new ClassCastException("can not cast to long, value : " + value);
@@ -242,7 +579,7 @@ public class TypeUtils {
                 return null;
             }
 
-            return Integer.parseInt(strVal);
+            return (int) parseLong(strVal, Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
         }
 
         throw new ClassCastException("can not cast to int, value : " + value);
@@ -282,4 +619,140 @@ public class TypeUtils {
         throw new ClassCastException("can not cast to int, value : " + value);
     }
 
+    public static final int intValue(Object value) {
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+
+        if (value instanceof String && ((String) value).length() != 0) {
+            return (int) parseLong((String) value, Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
+        }
+
+        throw new ClassCastException("can not cast to int, value : " + value);
+    }
+
+    public static final long longValue(Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+
+        if (value instanceof String && ((String) value).length() != 0) {
+            return parseLong((String) value);
+        }
+
+        throw new ClassCastException("can not cast to long, value : " + value);
+    }
+
+    /**
+     * 按十进制解析long，不合法或溢出时直接抛出ClassCastException，不借助NumberFormatException做流程控制
+     *
+     * @param value 非空字符串
+     * @return
+     */
+    private static long parseLong(String value) {
+        return parseLong(value, Long.MIN_VALUE, Long.MAX_VALUE, "long");
+    }
+
+    /**
+     * 同parseLong(String)，超出[min, max]时抛出ClassCastException，用于int、short、byte
+     *
+     * @param value 非空字符串
+     * @param min
+     * @param max
+     * @param type  异常信息中的类型名
+     * @return
+     */
+    private static long parseLong(String value, long min, long max, String type) {
+        int length = value.length();
+        int i = 0;
+        boolean negative = false;
+        char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == length) {
+                throw new ClassCastException("can not cast to " + type + ", value : " + value);
+            }
+        }
+        // 按负数累加，可以表示最小值
+        long limit = negative ? min : -max;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyMin) {
+                throw new ClassCastException("can not cast to " + type + ", value : " + value);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw new ClassCastException("can not cast to " + type + ", value : " + value);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 浮点数的格式较复杂，仍由JDK解析，NumberFormatException转为ClassCastException，与其他类型的转换失败一致
+     */
+    private static float parseFloat(String value) {
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            throw castFailure("float", value, e);
+        }
+    }
+
+    private static double parseDouble(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw castFailure("double", value, e);
+        }
+    }
+
+    private static ClassCastException castFailure(String type, String value, Throwable cause) {
+        ClassCastException exception = new ClassCastException("can not cast to " + type + ", value : " + value);
+        exception.initCause(cause);
+        return exception;
+    }
+
+    public static final float floatValue(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).floatValue();
+        }
+
+        if (value instanceof String && ((String) value).length() != 0) {
+            return parseFloat((String) value);
+        }
+
+        throw new ClassCastException("can not cast to float, value : " + value);
+    }
+
+    public static final double doubleValue(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+
+        if (value instanceof String && ((String) value).length() != 0) {
+            return parseDouble((String) value);
+        }
+
+        throw new ClassCastException("can not cast to double, value : " + value);
+    }
+
+    public static final boolean booleanValue(Object value) {
+        Boolean result = castToBoolean(value);
+        if (result == null) {
+            throw new ClassCastException("can not cast to boolean, value : " + value);
+        }
+        return result;
+    }
 }
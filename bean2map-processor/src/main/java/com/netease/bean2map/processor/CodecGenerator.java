@@ -0,0 +1,1152 @@
+package com.netease.bean2map.processor;
+
+import com.netease.bean2map.codec.BeanMapView;
+import com.netease.bean2map.codec.BinaryFormat;
+import com.netease.bean2map.codec.ByteKeyIndex;
+import com.netease.bean2map.codec.ByteSink;
+import com.netease.bean2map.codec.ByteValues;
+import com.netease.bean2map.codec.DateFormat;
+import com.netease.bean2map.codec.DateFormatter;
+import com.netease.bean2map.codec.EnumFormat;
+import com.netease.bean2map.codec.EnumLookup;
+import com.netease.bean2map.codec.IMapCodec;
+import com.netease.bean2map.codec.IndexedMap;
+import com.netease.bean2map.codec.KeyIndex;
+import com.netease.bean2map.codec.MapCodec;
+import com.netease.bean2map.codec.PrimitiveSink;
+import com.netease.bean2map.codec.PrimitiveSource;
+import com.netease.bean2map.codec.PropertyReader;
+import com.netease.bean2map.codec.PropertySchema;
+import com.netease.bean2map.codec.PropertySink;
+import com.netease.bean2map.codec.TemporalFormatter;
+import com.netease.bean2map.codec.TypeUtils;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 为单个javabean生成codec类
+ */
+class CodecGenerator {
+    static final TypeName MAP_TYPE = ParameterizedTypeName.get(Map.class, String.class, Object.class);
+    /**
+     * 位于可选的bean2map-jfr中，按名称引用，处理器本身不依赖JFR
+     */
+    private static final ClassName CONVERSION_EVENT = ClassName.get("com.netease.bean2map.jfr", "ConversionEvent");
+    private static final ClassName CAST_FAILURE_EVENT = ClassName.get("com.netease.bean2map.jfr", "CastFailureEvent");
+
+    private static final String KEYS = "KEYS";
+    private static final String READER = "READER";
+    private static final String SCHEMA = "SCHEMA";
+
+    private static final Set<String> CAST_TYPE_SET = new HashSet<String>() {{
+        add(Byte.class.getName());
+        add(Character.class.getName());
+        add(Short.class.getName());
+        add(Integer.class.getName());
+        add(Long.class.getName());
+        add(Float.class.getName());
+        add(Double.class.getName());
+        add(Date.class.getName());
+        add(Boolean.class.getName());
+        add(LocalDateTime.class.getName());
+        add(LocalDate.class.getName());
+        add(Instant.class.getName());
+        add(BigDecimal.class.getName());
+        add(UUID.class.getName());
+    }};
+
+    /**
+     * 支持@DateFormat的java.time类型
+     */
+    private static final Set<String> TEMPORAL_TYPE_SET = new HashSet<String>() {{
+        add(LocalDateTime.class.getName());
+        add(LocalDate.class.getName());
+        add(Instant.class.getName());
+    }};
+
+    private final ProcessingEnvironment processingEnv;
+    private final TypeMirror typeMirror;
+    private final TypeName typeName;
+    private final List<CodecProperty> properties;
+    private final boolean jfr;
+    /**
+     * 生成方法时按需创建的静态常量，如日期格式化器、嵌套javabean的codec，相同的key只创建一个
+     */
+    private final Map<String, FieldSpec> constants = new LinkedHashMap<>();
+    /**
+     * 生成方法时按需创建的辅助方法，如集合元素的转换
+     */
+    private final Map<String, MethodSpec> helpers = new LinkedHashMap<>();
+
+    /**
+     * @param jfr 是否在code、decode、filter中记录JFR事件
+     */
+    CodecGenerator(ProcessingEnvironment processingEnv, TypeElement element, List<CodecProperty> properties, boolean jfr) {
+        this.processingEnv = processingEnv;
+        this.jfr = jfr;
+        this.typeMirror = element.asType();
+        this.typeName = TypeName.get(typeMirror);
+        this.properties = properties;
+    }
+
+    TypeSpec generate(String codecName) {
+        TypeSpec.Builder codecBuild = TypeSpec.classBuilder(codecName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(IMapCodec.class), typeName))
+                .addField(keysField())
+                .addField(readerField(codecName))
+                .addField(schemaField())
+                .addMethod(code())
+                .addMethod(codeToSink())
+                .addMethod(codeToPrimitiveSink())
+                .addMethod(codeToMap())
+                .addMethod(decode())
+                .addMethod(decodeInto())
+                .addMethod(decodeFromPrimitiveSource())
+                .addMethod(codeToBytes())
+                .addMethod(decodeFromBytes())
+                .addMethod(writeTo())
+                .addMethod(readFrom())
+                .addMethod(filter())
+                .addMethod(view())
+                .addMethod(getByName())
+                .addMethod(setByName())
+                .addMethod(diff())
+                .addMethod(schema())
+                .addMethod(getByOrdinal())
+                .addMethod(setByOrdinal())
+                .addMethod(read());
+        // 生成方法时收集到的静态字段
+        for (FieldSpec constant : constants.values()) {
+            codecBuild.addField(constant);
+        }
+        for (MethodSpec helper : helpers.values()) {
+            codecBuild.addMethod(helper);
+        }
+        return codecBuild.build();
+    }
+
+    /**
+     * 获取或创建静态常量
+     *
+     * @param key         去重用的key
+     * @param name        字段名，重名时追加序号
+     * @param type        字段类型
+     * @param initializer 初始化表达式
+     * @return 字段名
+     */
+    private String constant(String key, String name, TypeName type, CodeBlock initializer) {
+        FieldSpec field = constants.get(key);
+        if (field == null) {
+            String fieldName = name;
+            for (int i = 1; containsConstant(fieldName); i++) {
+                fieldName = name + "_" + i;
+            }
+            field = FieldSpec.builder(type, fieldName, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer(initializer)
+                    .build();
+            constants.put(key, field);
+        }
+        return field.name;
+    }
+
+    private boolean containsConstant(String name) {
+        if (KEYS.equals(name) || READER.equals(name) || SCHEMA.equals(name)) {
+            return true;
+        }
+        for (FieldSpec field : constants.values()) {
+            if (field.name.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String dateFormatter(String pattern) {
+        return constant("date:" + pattern, "DATE_FORMATTER", ClassName.get(DateFormatter.class),
+                CodeBlock.of("new $T($S)", DateFormatter.class, pattern));
+    }
+
+    private String temporalFormatter(String pattern) {
+        return constant("temporal:" + pattern, "TEMPORAL_FORMATTER", ClassName.get(TemporalFormatter.class),
+                CodeBlock.of("new $T($S)", TemporalFormatter.class, pattern));
+    }
+
+    private String byteKeys() {
+        return constant("byteKeys", "BYTE_KEYS", ClassName.get(ByteKeyIndex.class),
+                CodeBlock.of("new $T($N)", ByteKeyIndex.class, KEYS));
+    }
+
+    /**
+     * 属性名的UTF-8字节，与BYTE_KEYS共享同一个数组
+     */
+    private String byteKey(CodecProperty property) {
+        String byteKeys = byteKeys();
+        return constant("byteKey:" + property.getName(), upperCase(property.getName()) + "_KEY", TypeName.get(byte[].class),
+                CodeBlock.of("$N.key($L)", byteKeys, property.getOrdinal()));
+    }
+
+    /**
+     * @param converterType @MapConverter指定的转换器类型
+     * @return 转换器常量
+     */
+    private String converter(TypeMirror converterType) {
+        TypeElement converterElement = MapCodecProcessor.getTypeElement(converterType);
+        return constant("converter:" + converterElement.getQualifiedName(),
+                upperCase(converterElement.getSimpleName().toString()), TypeName.get(converterType),
+                CodeBlock.of("new $T()", converterType));
+    }
+
+    /**
+     * 类型上注解了@MapConverter时，返回其转换器常量
+     *
+     * @param type 属性或集合元素的类型
+     * @return 未注解时返回null
+     */
+    private String typeConverter(TypeMirror type) {
+        TypeElement typeElement = MapCodecProcessor.getTypeElement(type);
+        TypeMirror converterType = typeElement != null ? MapCodecProcessor.getConverter(typeElement) : null;
+        return converterType != null ? converter(converterType) : null;
+    }
+
+    /**
+     * codeToBytes()按BinaryFormat写出的类型：集合、Map和@MapCodec注解的javabean，与ByteValues.isStructured()一致
+     */
+    private boolean isStructured(TypeMirror type) {
+        if (nestedCodec(type) != null) {
+            return true;
+        }
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror erasure = types.erasure(type);
+        for (Class<?> structured : new Class<?>[]{Collection.class, Map.class}) {
+            TypeElement element = processingEnv.getElementUtils().getTypeElement(structured.getName());
+            if (types.isAssignable(erasure, types.erasure(element.asType()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 属性类型为@MapCodec注解的javabean时，返回其codec常量
+     *
+     * @param type 属性类型
+     * @return 非@MapCodec类型返回null
+     */
+    private String nestedCodec(TypeMirror type) {
+        TypeElement typeElement = MapCodecProcessor.getTypeElement(type);
+        if (typeElement == null || typeElement.getAnnotation(MapCodec.class) == null) {
+            return null;
+        }
+        ClassName codecClass = MapCodecProcessor.codecClassName(processingEnv.getElementUtils(), typeElement);
+        return constant("codec:" + codecClass, upperCase(typeElement.getSimpleName().toString()) + "_CODEC",
+                codecClass, CodeBlock.of("new $T()", codecClass));
+    }
+
+    private static boolean isEnum(TypeMirror type) {
+        TypeElement typeElement = MapCodecProcessor.getTypeElement(type);
+        return typeElement != null && typeElement.getKind() == ElementKind.ENUM;
+    }
+
+    /**
+     * 枚举的name/ordinal查找表常量
+     */
+    private String enumLookup(TypeMirror type) {
+        TypeElement typeElement = MapCodecProcessor.getTypeElement(type);
+        ClassName enumClass = ClassName.get(typeElement);
+        return constant("enum:" + typeElement.getQualifiedName(), upperCase(typeElement.getSimpleName().toString()) + "_LOOKUP",
+                ParameterizedTypeName.get(ClassName.get(EnumLookup.class), enumClass),
+                CodeBlock.of("new $T<>($T.class)", EnumLookup.class, enumClass));
+    }
+
+    /**
+     * fooBar转换为FOO_BAR
+     */
+    static String upperCase(String name) {
+        StringBuilder builder = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(name.charAt(i - 1))) {
+                builder.append('_');
+            }
+            builder.append(Character.toUpperCase(c));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 所有实例共享的属性名表，下标即属性的ordinal
+     */
+    private FieldSpec keysField() {
+        CodeBlock.Builder names = CodeBlock.builder();
+        for (CodecProperty property : properties) {
+            if (property.getOrdinal() > 0) {
+                names.add(", ");
+            }
+            names.add("$S", property.getName());
+        }
+        return FieldSpec.builder(KeyIndex.class, KEYS, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T($L)", KeyIndex.class, names.build())
+                .build();
+    }
+
+    private FieldSpec readerField(String codecName) {
+        return FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(PropertyReader.class), typeName),
+                READER, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$N::read", codecName)
+                .build();
+    }
+
+    /**
+     * 属性元数据，下标与KEYS一致
+     */
+    private FieldSpec schemaField() {
+        CodeBlock.Builder initializer = CodeBlock.builder().add("new $T($N", PropertySchema.class, KEYS).indent();
+        for (CodecProperty property : properties) {
+            ExecutableElement setter = property.getSetter(processingEnv.getTypeUtils());
+            TypeMirror type = property.isReadable() ? property.getterType() : setter.getParameters().get(0).asType();
+            DateFormat dateFormat = property.getDateFormat();
+            initializer.add(",\nnew $T($S, $L, $T.class, $L, $L, $S, $L, $L)", PropertySchema.Property.class,
+                    property.getName(), property.getOrdinal(), TypeName.get(processingEnv.getTypeUtils().erasure(type)),
+                    property.isReadable(), setter != null,
+                    dateFormat != null ? dateFormat.pattern() : null, dateFormat != null && dateFormat.timestamp(),
+                    property.getConverter() == null && isStructured(type));
+        }
+        return FieldSpec.builder(PropertySchema.class, SCHEMA, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(initializer.unindent().add(")").build())
+                .build();
+    }
+
+    private MethodSpec code() {
+        MethodSpec.Builder codeBuild = MethodSpec.methodBuilder("code")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .returns(MAP_TYPE);
+        beginEvent(codeBuild);
+        codeBuild.addStatement("$T map = new $T($N)", IndexedMap.class, IndexedMap.class, KEYS);
+        addEncodeStatements(codeBuild, (property, value, encoded) ->
+                CodeBlock.of("map.set($L, $L)", property.getOrdinal(), value));
+        commitEvent(codeBuild, "code", "map.size()");
+        return codeBuild.addStatement("return map").build();
+    }
+
+    /**
+     * 开启jfr时创建事件并开始计时，未启用的事件由JIT消除
+     */
+    private void beginEvent(MethodSpec.Builder builder) {
+        if (jfr) {
+            builder.addStatement("$T event = new $T()", CONVERSION_EVENT, CONVERSION_EVENT)
+                    .addStatement("event.begin()");
+        }
+    }
+
+    /**
+     * 开启jfr时结束计时，超过阈值才写入事件字段并提交
+     *
+     * @param operation 操作名
+     * @param size      属性个数的表达式
+     */
+    private void commitEvent(MethodSpec.Builder builder, String operation, String size) {
+        if (jfr) {
+            builder.addStatement("event.end()")
+                    .beginControlFlow("if (event.shouldCommit())")
+                    .addStatement("event.entityClass = $T.class", entityClass())
+                    .addStatement("event.operation = $S", operation)
+                    .addStatement("event.propertyCount = $L", size)
+                    .addStatement("event.commit()")
+                    .endControlFlow();
+        }
+    }
+
+    private TypeName entityClass() {
+        return TypeName.get(processingEnv.getTypeUtils().erasure(typeMirror));
+    }
+
+    private MethodSpec codeToSink() {
+        MethodSpec.Builder codeBuild = MethodSpec.methodBuilder("code")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .addParameter(PropertySink.class, "sink");
+        addEncodeStatements(codeBuild, (property, value, encoded) ->
+                CodeBlock.of("sink.put($S, $L)", property.getName(), value));
+        return codeBuild.build();
+    }
+
+    private MethodSpec codeToPrimitiveSink() {
+        MethodSpec.Builder codeBuild = MethodSpec.methodBuilder("code")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .addParameter(PrimitiveSink.class, "sink");
+        addEncodeStatements(codeBuild, (property, value, encoded) -> {
+            String primitive = encoded ? null : primitiveName(property.getterType());
+            if (primitive != null) {
+                return CodeBlock.of("sink.put$L($S, $L)", primitive, property.getName(), value);
+            }
+            return CodeBlock.of("sink.put($S, $L)", property.getName(), value);
+        });
+        return codeBuild.build();
+    }
+
+    private MethodSpec codeToMap() {
+        MethodSpec.Builder codeBuild = MethodSpec.methodBuilder("code")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .addParameter(MAP_TYPE, "target")
+                .returns(MAP_TYPE);
+        addEncodeStatements(codeBuild, (property, value, encoded) ->
+                CodeBlock.of("target.put($S, $L)", property.getName(), value));
+        return codeBuild.addStatement("return target").build();
+    }
+
+    /**
+     * 依次读取每个getter，跳过null值，编码后交给put写出
+     *
+     * @param builder 方法
+     * @param put     由属性和编码后的值生成写出语句
+     */
+    private void addEncodeStatements(MethodSpec.Builder builder, EncodeStatement put) {
+        for (CodecProperty property : properties) {
+            if (!property.isReadable()) {
+                continue;
+            }
+            boolean isPrimitive = property.isPrimitiveGetter();
+            //非基本类型进行判空
+            if (!isPrimitive) {
+                builder.beginControlFlow("if(entity.$L()!=null)", property.getterName());
+            }
+            CodeBlock getterValue = getterValue(property);
+            CodeBlock value = encodeValue(property, getterValue);
+            builder.addStatement(put.apply(property, value, value != getterValue));
+            if (!isPrimitive) {
+                builder.endControlFlow();
+            }
+        }
+    }
+
+    private MethodSpec decode() {
+        return MethodSpec.methodBuilder("decode")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(MAP_TYPE, "map").build())
+                .returns(typeName)
+                .addStatement("return decodeInto(map, new $T())", typeMirror)
+                .build();
+    }
+
+    private MethodSpec decodeInto() {
+        MethodSpec.Builder decodeBuild = MethodSpec.methodBuilder("decodeInto")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(MAP_TYPE, "map").build())
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .returns(typeName);
+        if (jfr) {
+            beginEvent(decodeBuild);
+            // 记录正在转换的属性，转换失败时写入事件
+            decodeBuild.addStatement("$T property = null", String.class)
+                    .beginControlFlow("try");
+        }
+        decodeBuild.addStatement("$T value", Object.class);
+        for (CodecProperty property : properties) {
+            ExecutableElement setter = property.getSetter(processingEnv.getTypeUtils());
+            if (setter == null) {
+                continue;
+            }
+            decodeBuild.addStatement("value = map.get($S)", property.getName());
+            decodeBuild.beginControlFlow("if(value!=null)");
+            if (jfr) {
+                decodeBuild.addStatement("property = $S", property.getName());
+            }
+            decodeBuild.addStatement("entity.$L($L)", setter.getSimpleName(), decodeValue(property, setter, "value"));
+            decodeBuild.endControlFlow();
+        }
+        if (jfr) {
+            decodeBuild.nextControlFlow("catch ($T e)", ClassCastException.class)
+                    .addStatement("$T failure = new $T()", CAST_FAILURE_EVENT, CAST_FAILURE_EVENT)
+                    .beginControlFlow("if (failure.isEnabled())")
+                    .addStatement("failure.entityClass = $T.class", entityClass())
+                    .addStatement("failure.operation = $S", "decode")
+                    .addStatement("failure.propertyCount = map.size()")
+                    .addStatement("failure.property = property")
+                    .addStatement("failure.message = e.getMessage()")
+                    .addStatement("failure.commit()")
+                    .endControlFlow()
+                    .addStatement("throw e")
+                    .endControlFlow();
+            commitEvent(decodeBuild, "decode", "map.size()");
+        }
+        return decodeBuild.addStatement("return entity").build();
+    }
+
+    private MethodSpec decodeFromPrimitiveSource() {
+        MethodSpec.Builder decodeBuild = MethodSpec.methodBuilder("decode")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(PrimitiveSource.class, "source")
+                .returns(typeName)
+                .addStatement("$T entity = new $T()", typeMirror, typeMirror)
+                .addStatement("$T value", Object.class);
+        for (CodecProperty property : properties) {
+            ExecutableElement setter = property.getSetter(processingEnv.getTypeUtils());
+            if (setter == null) {
+                continue;
+            }
+            String primitive = property.getConverter() == null ? primitiveName(setter.getParameters().get(0).asType()) : null;
+            if (primitive != null) {
+                decodeBuild.beginControlFlow("if(source.contains($S))", property.getName());
+                decodeBuild.addStatement("entity.$L(source.get$L($S))", setter.getSimpleName(), primitive, property.getName());
+            } else {
+                decodeBuild.addStatement("value = source.get($S)", property.getName());
+                decodeBuild.beginControlFlow("if(value!=null)");
+                decodeBuild.addStatement("entity.$L($L)", setter.getSimpleName(), decodeValue(property, setter, "value"));
+            }
+            decodeBuild.endControlFlow();
+        }
+        return decodeBuild.addStatement("return entity").build();
+    }
+
+    /**
+     * 编码为字节写入sink，基本类型和格式化的日期直接转换为字节
+     */
+    private MethodSpec codeToBytes() {
+        MethodSpec.Builder codeBuild = MethodSpec.methodBuilder("codeToBytes")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .addParameter(ByteSink.class, "sink");
+        addEncodeStatements(codeBuild, (property, value, encoded) -> {
+            DateFormat dateFormat = property.getDateFormat();
+            String type = property.getterType().toString();
+            CodeBlock bytes;
+            if (property.getConverter() == null && dateFormat != null && !dateFormat.timestamp() && Date.class.getName().equals(type)) {
+                bytes = CodeBlock.of("$N.formatBytes($L)", dateFormatter(dateFormat.pattern()), getterValue(property));
+            } else if (property.getConverter() == null && dateFormat != null && !dateFormat.timestamp() && TEMPORAL_TYPE_SET.contains(type)) {
+                bytes = CodeBlock.of("$N.formatBytes($L)", temporalFormatter(dateFormat.pattern()), getterValue(property));
+            } else {
+                // 基本类型、时间戳按重载直接转换，不装箱
+                bytes = CodeBlock.of("$T.toBytes($L)", ByteValues.class, value);
+            }
+            return CodeBlock.of("sink.put($N, $L)", byteKey(property), bytes);
+        });
+        return codeBuild.build();
+    }
+
+    /**
+     * 按字节查找属性下标，基本类型直接从字节解析，集合和嵌套的javabean按BinaryFormat读取，其余按字符串转换
+     */
+    private MethodSpec decodeFromBytes() {
+        TypeName bytesMap = ParameterizedTypeName.get(Map.class, byte[].class, byte[].class);
+        TypeName bytesEntry = ParameterizedTypeName.get(Map.Entry.class, byte[].class, byte[].class);
+        MethodSpec.Builder decodeBuild = MethodSpec.methodBuilder("decodeFromBytes")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(bytesMap, "map")
+                .returns(typeName)
+                .addStatement("$T entity = new $T()", typeMirror, typeMirror)
+                .addStatement("$T value", Object.class)
+                .beginControlFlow("for ($T entry : map.entrySet())", bytesEntry)
+                .addStatement("byte[] bytes = entry.getValue()")
+                .beginControlFlow("if (bytes == null)")
+                .addStatement("continue")
+                .endControlFlow()
+                .beginControlFlow("switch ($N.indexOf(entry.getKey()))", byteKeys());
+        for (CodecProperty property : properties) {
+            ExecutableElement setter = property.getSetter(processingEnv.getTypeUtils());
+            if (setter == null) {
+                continue;
+            }
+            decodeBuild.addCode("case $L:\n$>", property.getOrdinal());
+            String primitive = property.getConverter() == null ? primitiveName(setter.getParameters().get(0).asType()) : null;
+            if (primitive != null) {
+                decodeBuild.addStatement("entity.$L($T.$LValue(bytes))", setter.getSimpleName(), ByteValues.class, primitive.toLowerCase());
+            } else {
+                boolean structured = property.getConverter() == null && isStructured(setter.getParameters().get(0).asType());
+                decodeBuild.addStatement("value = $T.$L(bytes)", ByteValues.class, structured ? "structuredValue" : "toString")
+                        .addStatement("entity.$L($L)", setter.getSimpleName(), decodeValue(property, setter, "value"));
+            }
+            decodeBuild.addStatement("break$<");
+        }
+        return decodeBuild.addStatement("default: break")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return entity")
+                .build();
+    }
+
+    /**
+     * 按下标写出二进制，基本类型不装箱
+     */
+    private MethodSpec writeTo() {
+        MethodSpec.Builder writeBuild = MethodSpec.methodBuilder("writeTo")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .addParameter(ByteBuffer.class, "buffer")
+                .addStatement("$T.writeHeader(buffer, $N)", BinaryFormat.class, SCHEMA);
+        addEncodeStatements(writeBuild, (property, value, encoded) -> {
+            String primitive = encoded ? null : primitiveName(property.getterType());
+            return CodeBlock.of("$T.write$L(buffer, $L, $L)", BinaryFormat.class, primitive != null ? primitive : "Value",
+                    property.getOrdinal(), value);
+        });
+        return writeBuild.addStatement("$T.writeEnd(buffer)", BinaryFormat.class).build();
+    }
+
+    /**
+     * 按下标switch读取二进制，类型标记一致的基本类型不装箱，不认识的下标跳过
+     */
+    private MethodSpec readFrom() {
+        MethodSpec.Builder readBuild = MethodSpec.methodBuilder("readFrom")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ByteBuffer.class, "buffer")
+                .returns(typeName)
+                .addStatement("$T.readHeader(buffer, $N)", BinaryFormat.class, SCHEMA)
+                .addStatement("$T entity = new $T()", typeMirror, typeMirror)
+                .addStatement("$T value", Object.class)
+                .addStatement("int ordinal")
+                .beginControlFlow("while ((ordinal = $T.readOrdinal(buffer)) >= 0)", BinaryFormat.class)
+                .addStatement("byte tag = buffer.get()")
+                .beginControlFlow("switch (ordinal)");
+        for (CodecProperty property : properties) {
+            ExecutableElement setter = property.getSetter(processingEnv.getTypeUtils());
+            if (setter == null) {
+                continue;
+            }
+            readBuild.addCode("case $L:\n$>", property.getOrdinal());
+            String primitive = property.getConverter() == null ? primitiveName(setter.getParameters().get(0).asType()) : null;
+            if (primitive != null) {
+                readBuild.addStatement("entity.$L($T.read$L(buffer, tag))", setter.getSimpleName(), BinaryFormat.class, primitive);
+            } else {
+                readBuild.addStatement("value = $T.readValue(buffer, tag)", BinaryFormat.class)
+                        .beginControlFlow("if(value!=null)")
+                        .addStatement("entity.$L($L)", setter.getSimpleName(), decodeValue(property, setter, "value"))
+                        .endControlFlow();
+            }
+            readBuild.addStatement("break$<");
+        }
+        return readBuild.addStatement("default: $T.skip(buffer, tag)", BinaryFormat.class)
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return entity")
+                .build();
+    }
+
+    private MethodSpec filter() {
+        MethodSpec.Builder filterBuild = MethodSpec.methodBuilder("filter")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(MAP_TYPE, "map").build())
+                .returns(MAP_TYPE);
+        beginEvent(filterBuild);
+        filterBuild.addStatement("$T result = new $T($N)", IndexedMap.class, IndexedMap.class, KEYS)
+                .addStatement("$T value", Object.class);
+        for (CodecProperty property : properties) {
+            if (!property.isReadable()) {
+                continue;
+            }
+            filterBuild.addStatement("value = map.get($S)", property.getName());
+            filterBuild.beginControlFlow("if(value!=null)");
+            filterBuild.addStatement("result.set($L, value)", property.getOrdinal());
+            filterBuild.endControlFlow();
+        }
+        commitEvent(filterBuild, "filter", "result.size()");
+        return filterBuild.addStatement("return result").build();
+    }
+
+    private MethodSpec view() {
+        return MethodSpec.methodBuilder("view")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .returns(MAP_TYPE)
+                .addStatement("return new $T<>($N, entity, $N)", BeanMapView.class, KEYS, READER)
+                .build();
+    }
+
+    /**
+     * 按属性名读取，编译为字符串switch
+     */
+    private MethodSpec getByName() {
+        MethodSpec.Builder getBuild = MethodSpec.methodBuilder("get")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .addParameter(String.class, "name")
+                .returns(Object.class)
+                .beginControlFlow("switch (name)");
+        for (CodecProperty property : properties) {
+            if (property.isReadable()) {
+                getBuild.addStatement("case $S: return $L", property.getName(), readValue(property));
+            }
+        }
+        return getBuild.addStatement("default: return null")
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * 按属性名写入，编译为字符串switch
+     */
+    private MethodSpec setByName() {
+        MethodSpec.Builder setBuild = MethodSpec.methodBuilder("set")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .addParameter(String.class, "name")
+                .addParameter(Object.class, "value")
+                .returns(boolean.class)
+                .beginControlFlow("switch (name)");
+        addSetCases(setBuild, property -> CodeBlock.of("$S", property.getName()));
+        return setBuild.addStatement("default: return false")
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * 直接比较getter，有差异时才创建结果Map
+     */
+    private MethodSpec diff() {
+        MethodSpec.Builder diffBuild = MethodSpec.methodBuilder("diff")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "before").build())
+                .addParameter(ParameterSpec.builder(typeName, "after").build())
+                .returns(MAP_TYPE)
+                .addStatement("$T changes = null", IndexedMap.class);
+        for (CodecProperty property : properties) {
+            if (!property.isReadable()) {
+                continue;
+            }
+            CodeBlock before = getterValue(property, "before");
+            CodeBlock after = getterValue(property, "after");
+            switch (property.getterType().getKind()) {
+                case FLOAT:
+                    diffBuild.beginControlFlow("if ($T.compare($L, $L) != 0)", Float.class, before, after);
+                    break;
+                case DOUBLE:
+                    diffBuild.beginControlFlow("if ($T.compare($L, $L) != 0)", Double.class, before, after);
+                    break;
+                default:
+                    if (property.isPrimitiveGetter()) {
+                        diffBuild.beginControlFlow("if ($L != $L)", before, after);
+                    } else {
+                        diffBuild.beginControlFlow("if (!$T.equals($L, $L))", Objects.class, before, after);
+                    }
+            }
+            diffBuild.beginControlFlow("if (changes == null)")
+                    .addStatement("changes = new $T($N)", IndexedMap.class, KEYS)
+                    .endControlFlow()
+                    .addStatement("changes.set($L, $L)", property.getOrdinal(), readValue(property, "after"))
+                    .endControlFlow();
+        }
+        return diffBuild.addStatement("return changes != null ? changes : $T.emptyMap()", Collections.class).build();
+    }
+
+    private MethodSpec schema() {
+        return MethodSpec.methodBuilder("schema")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(PropertySchema.class)
+                .addStatement("return $N", SCHEMA)
+                .build();
+    }
+
+    private MethodSpec getByOrdinal() {
+        return MethodSpec.methodBuilder("get")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .addParameter(int.class, "ordinal")
+                .returns(Object.class)
+                .addStatement("return read(entity, ordinal)")
+                .build();
+    }
+
+    private MethodSpec setByOrdinal() {
+        MethodSpec.Builder setBuild = MethodSpec.methodBuilder("set")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .addParameter(int.class, "ordinal")
+                .addParameter(Object.class, "value")
+                .returns(boolean.class)
+                .beginControlFlow("switch (ordinal)");
+        addSetCases(setBuild, property -> CodeBlock.of("$L", property.getOrdinal()));
+        return setBuild.addStatement("default: return false")
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * 每个可写属性生成一个case，写入后返回true
+     *
+     * @param builder 方法
+     * @param label   由属性生成case的值
+     */
+    private void addSetCases(MethodSpec.Builder builder, Function<CodecProperty, CodeBlock> label) {
+        for (CodecProperty property : properties) {
+            ExecutableElement setter = property.getSetter(processingEnv.getTypeUtils());
+            if (setter != null) {
+                builder.addCode("case $L:\n", label.apply(property))
+                        .addStatement("$>entity.$L($L)", setter.getSimpleName(), writeValue(property, setter))
+                        .addStatement("return true$<");
+            }
+        }
+    }
+
+    /**
+     * 按下标读取编码后的属性值，供view()和get(T, int)使用
+     */
+    private MethodSpec read() {
+        MethodSpec.Builder readBuild = MethodSpec.methodBuilder("read")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(ParameterSpec.builder(typeName, "entity").build())
+                .addParameter(int.class, "index")
+                .returns(Object.class)
+                .beginControlFlow("switch (index)");
+        for (CodecProperty property : properties) {
+            if (property.isReadable()) {
+                readBuild.addStatement("case $L: return $L", property.getOrdinal(), readValue(property));
+            }
+        }
+        return readBuild.addStatement("default: return null")
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * 读取单个属性并编码的表达式，null值返回null
+     */
+    private CodeBlock readValue(CodecProperty property) {
+        return readValue(property, "entity");
+    }
+
+    /**
+     * @param entity javabean所在的变量名
+     */
+    private CodeBlock readValue(CodecProperty property, String entity) {
+        CodeBlock getterValue = getterValue(property, entity);
+        CodeBlock value = encodeValue(property, getterValue);
+        if (property.isPrimitiveGetter() || value == getterValue) {
+            return value;
+        }
+        return CodeBlock.of("$L.$L()!=null ? $L : null", entity, property.getterName(), value);
+    }
+
+    /**
+     * 转换value作为setter参数的表达式，非基本类型的null值原样写入
+     */
+    private CodeBlock writeValue(CodecProperty property, ExecutableElement setter) {
+        CodeBlock value = decodeValue(property, setter, "value");
+        if (setter.getParameters().get(0).asType() instanceof PrimitiveType) {
+            return value;
+        }
+        return CodeBlock.of("value == null ? null : $L", value);
+    }
+
+    /**
+     * PrimitiveSink/PrimitiveSource支持的基本类型，返回方法名后缀
+     *
+     * @param type
+     * @return 其他类型返回null
+     */
+    private static String primitiveName(TypeMirror type) {
+        switch (type.getKind()) {
+            case INT:
+                return "Int";
+            case LONG:
+                return "Long";
+            case FLOAT:
+                return "Float";
+            case DOUBLE:
+                return "Double";
+            case BOOLEAN:
+                return "Boolean";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 类名的最后一段，对应TypeUtils.castToXxx
+     */
+    private static String simpleName(TypeMirror type) {
+        String name = type.toString();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private static CodeBlock getterValue(CodecProperty property) {
+        return getterValue(property, "entity");
+    }
+
+    private static CodeBlock getterValue(CodecProperty property, String entity) {
+        return CodeBlock.of("$L.$L()", entity, property.getterName());
+    }
+
+    /**
+     * getter的值按注解转换为map中的值，无需转换时原样返回value
+     *
+     * @param property 属性
+     * @param value    getter取值的表达式，非null
+     */
+    private CodeBlock encodeValue(CodecProperty property, CodeBlock value) {
+        if (property.getConverter() != null) {
+            return CodeBlock.of("$N.encode($L)", converter(property.getConverter()), value);
+        }
+        return encodeValue(property.getterType(), property.getDateFormat(), property.getEnumFormat(), property.getName(), value);
+    }
+
+    /**
+     * @param type       值的类型
+     * @param dateFormat 属性上的日期格式，集合元素同样适用
+     * @param enumFormat 属性上的枚举格式，集合元素同样适用
+     * @param name       属性名，用于生成辅助方法名
+     * @param value      取值的表达式，非null
+     */
+    private CodeBlock encodeValue(TypeMirror type, DateFormat dateFormat, EnumFormat enumFormat, String name, CodeBlock value) {
+        String converter = typeConverter(type);
+        if (converter != null) {
+            return CodeBlock.of("$N.encode($L)", converter, value);
+        }
+        if (isEnum(type)) {
+            return CodeBlock.of(enumFormat != null && enumFormat.ordinal() ? "$L.ordinal()" : "$L.name()", value);
+        }
+        String codec = nestedCodec(type);
+        if (codec != null) {
+            return CodeBlock.of("$N.code($L)", codec, value);
+        }
+        if (dateFormat != null && Date.class.getName().equals(type.toString())) {
+            if (dateFormat.timestamp()) {
+                return CodeBlock.of("$L.getTime()", value);
+            }
+            return CodeBlock.of("$N.format($L)", dateFormatter(dateFormat.pattern()), value);
+        }
+        if (dateFormat != null && TEMPORAL_TYPE_SET.contains(type.toString())) {
+            if (dateFormat.timestamp()) {
+                return CodeBlock.of("$T.toEpochMilli($L)", TypeUtils.class, value);
+            }
+            return CodeBlock.of("$N.format($L)", temporalFormatter(dateFormat.pattern()), value);
+        }
+        ContainerType container = ContainerType.of(processingEnv, type);
+        if (container != null) {
+            String helper = encodeContainer(container, dateFormat, enumFormat, name);
+            if (helper != null) {
+                return CodeBlock.of("$N($L)", helper, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * map中的值转换为setter参数类型
+     */
+    private CodeBlock decodeValue(CodecProperty property, ExecutableElement setter, String value) {
+        if (property.getConverter() != null) {
+            return CodeBlock.of("$N.decode($L)", converter(property.getConverter()), value);
+        }
+        TypeMirror parameterType = setter.getParameters().get(0).asType();
+        String primitive = primitiveName(parameterType);
+        if (primitive != null) {
+            // 直接转换为基本类型，不经过包装类
+            return CodeBlock.of("$T.$LValue($L)", TypeUtils.class, primitive.toLowerCase(), value);
+        }
+        if (parameterType instanceof PrimitiveType) {
+            parameterType = processingEnv.getTypeUtils().boxedClass((PrimitiveType) parameterType).asType();
+        }
+        CodeBlock converted = convertValue(parameterType, property.getDateFormat(), property.getName(), value);
+        // 需要增加type强转
+        return converted != null ? converted : CodeBlock.of("($T) $L", setter.getParameters().get(0).asType(), value);
+    }
+
+    /**
+     * 任意值转换为指定类型
+     *
+     * @param type       目标类型，非基本类型
+     * @param dateFormat 属性上的日期格式，集合元素同样适用
+     * @param name       属性名，用于生成辅助方法名
+     * @param value      值所在的变量名，非null
+     * @return 无需转换、直接强转即可时返回null
+     */
+    private CodeBlock convertValue(TypeMirror type, DateFormat dateFormat, String name, String value) {
+        String converter = typeConverter(type);
+        if (converter != null) {
+            return CodeBlock.of("$N.decode($L)", converter, value);
+        }
+        if (isEnum(type)) {
+            return CodeBlock.of("$N.decode($L)", enumLookup(type), value);
+        }
+        String codec = nestedCodec(type);
+        if (codec != null) {
+            // 直接调用嵌套javabean的codec，已经是javabean时原样使用
+            return CodeBlock.of("$L instanceof $T ? $N.decode(($T) $L) : ($T) $L",
+                    value, Map.class, codec, MAP_TYPE, value, type, value);
+        }
+        if (dateFormat != null && !dateFormat.timestamp() && Date.class.getName().equals(type.toString())) {
+            return CodeBlock.of("$T.castToDate($L, $N)", TypeUtils.class, value, dateFormatter(dateFormat.pattern()));
+        }
+        if (dateFormat != null && !dateFormat.timestamp() && TEMPORAL_TYPE_SET.contains(type.toString())) {
+            return CodeBlock.of("$T.castTo$L($L, $N)", TypeUtils.class, simpleName(type), value,
+                    temporalFormatter(dateFormat.pattern()));
+        }
+        if (CAST_TYPE_SET.contains(type.toString())) {
+            return CodeBlock.of("$T.castTo$L($L)", TypeUtils.class, simpleName(type), value);
+        }
+        ContainerType container = ContainerType.of(processingEnv, type);
+        if (container != null) {
+            String helper = decodeContainer(container, dateFormat, name);
+            if (helper != null) {
+                return CodeBlock.of("$N($L)", helper, value);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 生成集合逐个编码元素的辅助方法，集合输出为List，Map输出为LinkedHashMap，key保持不变
+     *
+     * @return 元素无需编码时返回null
+     */
+    private String encodeContainer(ContainerType container, DateFormat dateFormat, EnumFormat enumFormat, String name) {
+        String key = "encode:" + container.getType() + (dateFormat != null ? ":" + dateFormat.pattern() + dateFormat.timestamp() : "")
+                + (enumFormat != null && enumFormat.ordinal() ? ":ordinal" : "");
+        MethodSpec helper = helpers.get(key);
+        if (helper != null) {
+            return helper.name;
+        }
+        CodeBlock element = CodeBlock.of("element");
+        CodeBlock elementValue = encodeValue(container.getElementType(), dateFormat, enumFormat, name, element);
+        if (elementValue == element) {
+            return null;
+        }
+        TypeName elementType = TypeName.get(container.getElementType());
+        MethodSpec.Builder helperBuild = MethodSpec.methodBuilder(helperName("encode", name))
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(TypeName.get(container.getType()), "value");
+        if (container.isMap()) {
+            TypeName keyType = TypeName.get(container.getKeyType());
+            TypeName mapType = ParameterizedTypeName.get(Map.class, Object.class, Object.class);
+            helperBuild.returns(mapType)
+                    .addStatement("$T result = new $T<>((int) (value.size() / 0.75f) + 1)", mapType, LinkedHashMap.class)
+                    .beginControlFlow("for ($T entry : value.entrySet())",
+                            ParameterizedTypeName.get(ClassName.get(Map.Entry.class), WildcardTypeName.subtypeOf(keyType),
+                                    WildcardTypeName.subtypeOf(elementType)))
+                    .addStatement("$T element = entry.getValue()", elementType)
+                    .addStatement("result.put(entry.getKey(), element == null ? null : $L)", elementValue)
+                    .endControlFlow();
+        } else {
+            TypeName listType = ParameterizedTypeName.get(List.class, Object.class);
+            helperBuild.returns(listType)
+                    .addStatement("$T result = new $T<>(value.size())", listType, ArrayList.class)
+                    .beginControlFlow("for ($T element : value)", elementType)
+                    .addStatement("result.add(element == null ? null : $L)", elementValue)
+                    .endControlFlow();
+        }
+        helper = helperBuild.addStatement("return result").build();
+        helpers.put(key, helper);
+        return helper.name;
+    }
+
+    /**
+     * 生成集合逐个转换元素的辅助方法，按输入大小预分配容量，非集合的值直接强转
+     *
+     * @return 元素无需转换时返回null
+     */
+    private String decodeContainer(ContainerType container, DateFormat dateFormat, String name) {
+        String key = "decode:" + container.getType() + (dateFormat != null ? ":" + dateFormat.pattern() : "");
+        MethodSpec helper = helpers.get(key);
+        if (helper != null) {
+            return helper.name;
+        }
+        CodeBlock elementValue = convertValue(container.getElementType(), dateFormat, name, "element");
+        CodeBlock keyValue = container.isMap() ? convertValue(container.getKeyType(), null, name, "key") : null;
+        if (elementValue == null && keyValue == null) {
+            return null;
+        }
+        TypeName elementType = TypeName.get(container.getElementType());
+        if (elementValue == null) {
+            elementValue = CodeBlock.of("($T) element", elementType);
+        }
+        TypeName resultType = container.getImplementation(elementType);
+        MethodSpec.Builder helperBuild = MethodSpec.methodBuilder(helperName("decode", name))
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(Object.class, "value")
+                .returns(TypeName.get(container.getType()));
+        if (container.isMap()) {
+            TypeName keyType = TypeName.get(container.getKeyType());
+            if (keyValue == null) {
+                keyValue = CodeBlock.of("($T) key", keyType);
+            }
+            helperBuild.beginControlFlow("if (!(value instanceof $T))", Map.class)
+                    .addStatement("return ($T) value", container.getType())
+                    .endControlFlow()
+                    .addStatement("$T<?, ?> map = ($T<?, ?>) value", Map.class, Map.class)
+                    .addStatement("$T result = new $T((int) (map.size() / 0.75f) + 1)", resultType, resultType)
+                    .beginControlFlow("for ($T<?, ?> entry : map.entrySet())", Map.Entry.class)
+                    .addStatement("$T key = entry.getKey()", Object.class)
+                    .addStatement("$T element = entry.getValue()", Object.class)
+                    .addStatement("result.put(key == null ? null : $L, element == null ? null : $L)", keyValue, elementValue)
+                    .endControlFlow();
+        } else {
+            helperBuild.beginControlFlow("if (!(value instanceof $T))", Collection.class)
+                    .addStatement("return ($T) value", container.getType())
+                    .endControlFlow()
+                    .addStatement("$T<?> collection = ($T<?>) value", Collection.class, Collection.class)
+                    .addStatement("$T result = new $T($L)", resultType, resultType,
+                            container.isSet() ? "(int) (collection.size() / 0.75f) + 1" : "collection.size()")
+                    .beginControlFlow("for ($T element : collection)", Object.class)
+                    .addStatement("result.add(element == null ? null : $L)", elementValue)
+                    .endControlFlow();
+        }
+        helper = helperBuild.addStatement("return result").build();
+        helpers.put(key, helper);
+        return helper.name;
+    }
+
+    private String helperName(String prefix, String name) {
+        String base = prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        String helperName = base;
+        for (int i = 1; containsHelper(helperName); i++) {
+            helperName = base + i;
+        }
+        return helperName;
+    }
+
+    private boolean containsHelper(String name) {
+        for (MethodSpec helper : helpers.values()) {
+            if (helper.name.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 生成写出一个属性的语句
+     */
+    @FunctionalInterface
+    private interface EncodeStatement {
+        /**
+         * @param property 属性
+         * @param value    编码后的值
+         * @param encoded  值是否经过转换，否则为getter的原始返回值
+         */
+        CodeBlock apply(CodecProperty property, CodeBlock value, boolean encoded);
+    }
+}
@@ -0,0 +1,97 @@
+package com.netease.bean2map.processor;
+
+import com.netease.bean2map.codec.CodecIndex;
+import com.netease.bean2map.codec.IMapCodec;
+import com.squareup.javapoet.*;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 生成一次编译中所有codec的索引类
+ */
+class CodecIndexGenerator {
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * @param binaryName javabean的二进制类名，即Class.getName()
+     * @param entity     javabean类名
+     * @param isPublic   javabean及其外部类是否都是public
+     * @param codec      codec类名
+     */
+    void add(String binaryName, ClassName entity, boolean isPublic, ClassName codec) {
+        entries.add(new Entry(binaryName, entity, isPublic, codec));
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 默认索引名，按javabean类名计算后缀，不同模块生成的索引不会重名
+     *
+     * @return
+     */
+    ClassName defaultName() {
+        Set<String> sorted = new TreeSet<>();
+        for (Entry entry : entries) {
+            sorted.add(entry.binaryName);
+        }
+        String names = String.join(";", sorted);
+        String packageName = entries.get(0).codec.packageName();
+        return ClassName.get(packageName, "MapCodecIndex_" + Integer.toHexString(names.hashCode()));
+    }
+
+    TypeSpec generate(ClassName indexName) {
+        CodeBlock.Builder names = CodeBlock.builder();
+        MethodSpec.Builder codecBuild = MethodSpec.methodBuilder("codec")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)), "type")
+                .returns(ParameterizedTypeName.get(ClassName.get(IMapCodec.class), WildcardTypeName.subtypeOf(Object.class)))
+                .beginControlFlow("switch (type.getName())");
+        for (Entry entry : entries) {
+            if (names.isEmpty()) {
+                names.add("$S", entry.binaryName);
+            } else {
+                names.add(", $S", entry.binaryName);
+            }
+            // 类名相同但classloader不同的类不使用本索引，索引无法访问javabean时比较classloader
+            if (entry.isPublic || entry.entity.packageName().equals(indexName.packageName())) {
+                codecBuild.addStatement("case $S: return type == $T.class ? new $T() : null", entry.binaryName, entry.entity, entry.codec);
+            } else {
+                codecBuild.addStatement("case $S: return type.getClassLoader() == $T.class.getClassLoader() ? new $T() : null",
+                        entry.binaryName, entry.codec, entry.codec);
+            }
+        }
+        codecBuild.addStatement("default: return null").endControlFlow();
+        return TypeSpec.classBuilder(indexName.simpleName())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(CodecIndex.class)
+                .addMethod(MethodSpec.methodBuilder("names")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(String[].class)
+                        .addStatement("return new $T[]{$L}", String.class, names.build())
+                        .build())
+                .addMethod(codecBuild.build())
+                .build();
+    }
+
+    private static class Entry {
+        private final String binaryName;
+        private final ClassName entity;
+        private final boolean isPublic;
+        private final ClassName codec;
+
+        Entry(String binaryName, ClassName entity, boolean isPublic, ClassName codec) {
+            this.binaryName = binaryName;
+            this.entity = entity;
+            this.isPublic = isPublic;
+            this.codec = codec;
+        }
+    }
+}
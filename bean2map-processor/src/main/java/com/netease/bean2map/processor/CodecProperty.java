@@ -0,0 +1,127 @@
+package com.netease.bean2map.processor;
+
+import com.netease.bean2map.codec.DateFormat;
+import com.netease.bean2map.codec.EnumFormat;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * javabean的一个属性，由getter和setter合并而来，ordinal为属性在codec中的固定下标
+ */
+class CodecProperty {
+    private final String name;
+    private final int ordinal;
+    private ExecutableElement getter;
+    private final List<ExecutableElement> setters = new ArrayList<>();
+    private DateFormat dateFormat;
+    private EnumFormat enumFormat;
+    private TypeMirror converter;
+
+    CodecProperty(String name, int ordinal) {
+        this.name = name;
+        this.ordinal = ordinal;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public ExecutableElement getGetter() {
+        return getter;
+    }
+
+    void setGetter(ExecutableElement getter) {
+        this.getter = getter;
+    }
+
+    void addSetter(ExecutableElement setter) {
+        setters.add(setter);
+    }
+
+    public DateFormat getDateFormat() {
+        return dateFormat;
+    }
+
+    void setDateFormat(DateFormat dateFormat) {
+        if (this.dateFormat == null) {
+            this.dateFormat = dateFormat;
+        }
+    }
+
+    public EnumFormat getEnumFormat() {
+        return enumFormat;
+    }
+
+    void setEnumFormat(EnumFormat enumFormat) {
+        if (this.enumFormat == null) {
+            this.enumFormat = enumFormat;
+        }
+    }
+
+    /**
+     * @return 属性上@MapConverter指定的转换器，未指定时返回null
+     */
+    public TypeMirror getConverter() {
+        return converter;
+    }
+
+    void setConverter(TypeMirror converter) {
+        if (this.converter == null) {
+            this.converter = converter;
+        }
+    }
+
+    public boolean isReadable() {
+        return getter != null;
+    }
+
+    public boolean isWritable() {
+        return !setters.isEmpty();
+    }
+
+    public String getterName() {
+        return getter.getSimpleName().toString();
+    }
+
+    public TypeMirror getterType() {
+        return getter.getReturnType();
+    }
+
+    /**
+     * 存在重载的setter时，优先选择参数类型与getter返回类型一致的，否则取子类中声明的
+     *
+     * @param types
+     * @return
+     */
+    public ExecutableElement getSetter(Types types) {
+        if (setters.isEmpty()) {
+            return null;
+        }
+        if (getter != null && setters.size() > 1) {
+            for (ExecutableElement setter : setters) {
+                if (types.isSameType(setter.getParameters().get(0).asType(), getter.getReturnType())) {
+                    return setter;
+                }
+            }
+        }
+        return setters.get(setters.size() - 1);
+    }
+
+    public boolean isPrimitiveGetter() {
+        return getter.getReturnType() instanceof PrimitiveType;
+    }
+
+    @Override
+    public String toString() {
+        return name + "#" + ordinal;
+    }
+}
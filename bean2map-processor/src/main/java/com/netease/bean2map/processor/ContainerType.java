@@ -0,0 +1,111 @@
+package com.netease.bean2map.processor;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 支持逐个元素转换的集合类型：List、Set、Collection以及key为任意类型的Map
+ */
+class ContainerType {
+    private static final Set<String> LIST_TYPES = new HashSet<>(Arrays.asList(
+            "java.util.List", "java.util.Collection", "java.util.ArrayList"));
+    private static final Set<String> SET_TYPES = new HashSet<>(Arrays.asList(
+            "java.util.Set", "java.util.HashSet", "java.util.LinkedHashSet"));
+    private static final Set<String> MAP_TYPES = new HashSet<>(Arrays.asList(
+            "java.util.Map", "java.util.HashMap", "java.util.LinkedHashMap"));
+
+    private final TypeMirror type;
+    private final TypeMirror keyType;
+    private final TypeMirror elementType;
+    private final ClassName implementation;
+
+    private ContainerType(TypeMirror type, TypeMirror keyType, TypeMirror elementType, ClassName implementation) {
+        this.type = type;
+        this.keyType = keyType;
+        this.elementType = elementType;
+        this.implementation = implementation;
+    }
+
+    /**
+     * @param processingEnv
+     * @param type          属性类型
+     * @return 不支持的类型或没有泛型参数时返回null
+     */
+    static ContainerType of(ProcessingEnvironment processingEnv, TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        DeclaredType declaredType = (DeclaredType) type;
+        List<? extends TypeMirror> arguments = declaredType.getTypeArguments();
+        String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+        if (LIST_TYPES.contains(name) && arguments.size() == 1) {
+            return new ContainerType(type, null, bound(processingEnv, arguments.get(0)), ClassName.get(ArrayList.class));
+        } else if (SET_TYPES.contains(name) && arguments.size() == 1) {
+            return new ContainerType(type, null, bound(processingEnv, arguments.get(0)), ClassName.get(LinkedHashSet.class));
+        } else if (MAP_TYPES.contains(name) && arguments.size() == 2) {
+            return new ContainerType(type, bound(processingEnv, arguments.get(0)), bound(processingEnv, arguments.get(1)),
+                    ClassName.get(LinkedHashMap.class));
+        }
+        return null;
+    }
+
+    /**
+     * ? extends X取X，其余通配符取Object
+     */
+    private static TypeMirror bound(ProcessingEnvironment processingEnv, TypeMirror argument) {
+        if (argument.getKind() == TypeKind.WILDCARD) {
+            TypeMirror extendsBound = ((WildcardType) argument).getExtendsBound();
+            return extendsBound != null ? extendsBound
+                    : processingEnv.getElementUtils().getTypeElement(Object.class.getName()).asType();
+        }
+        return argument;
+    }
+
+    public TypeMirror getType() {
+        return type;
+    }
+
+    public TypeMirror getKeyType() {
+        return keyType;
+    }
+
+    public TypeMirror getElementType() {
+        return elementType;
+    }
+
+    public boolean isMap() {
+        return keyType != null;
+    }
+
+    public boolean isSet() {
+        return implementation.equals(ClassName.get(LinkedHashSet.class));
+    }
+
+    /**
+     * decode时创建的集合类型，可赋值给声明的属性类型
+     *
+     * @param elementType 元素类型
+     * @return
+     */
+    public TypeName getImplementation(TypeName elementType) {
+        if (isMap()) {
+            return ParameterizedTypeName.get(implementation, TypeName.get(keyType), elementType);
+        }
+        return ParameterizedTypeName.get(implementation, elementType);
+    }
+}
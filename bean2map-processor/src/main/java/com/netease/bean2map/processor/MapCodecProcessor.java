@@ -6,46 +6,51 @@ import com.squareup.javapoet.*;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.lang.model.element.*;
 import javax.lang.model.type.DeclaredType;
-import javax.lang.model.type.PrimitiveType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
 import javax.lang.model.util.SimpleElementVisitor6;
 import javax.lang.model.util.SimpleTypeVisitor6;
 import javax.tools.Diagnostic;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
-import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.function.Consumer;
 
 @SupportedAnnotationTypes("com.netease.bean2map.codec.MapCodec")
+@SupportedOptions({MapCodecProcessor.INDEX_OPTION, MapCodecProcessor.JFR_OPTION})
 public class MapCodecProcessor extends AbstractProcessor {
+    /**
+     * 生成的codec索引类的全名，默认在第一个codec所在的包中按javabean类名生成
+     */
+    static final String INDEX_OPTION = "bean2map.index";
+    /**
+     * 为true时生成的codec记录JFR事件，需要依赖bean2map-jfr并运行在支持JFR的JDK上
+     */
+    static final String JFR_OPTION = "bean2map.jfr";
+
+    /**
+     * manifest中的每一行，格式为javabean类名=codec类名
+     */
     private final List<String> codecNames = new ArrayList<>();
+    private final CodecIndexGenerator indexGenerator = new CodecIndexGenerator();
+    private ClassName indexName;
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // 所有codec生成后的下一轮生成索引，使索引类在本次编译中一并编译
+        if (indexName == null && !indexGenerator.isEmpty() && (annotations.isEmpty() || roundEnv.processingOver())) {
+            generateIndex();
+        }
         if (roundEnv.processingOver()) {
-            try {
-                FileObject codecManifestFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT,
-                        "", "META-INF/" + MapCodecRegister.class.getName());
-                try (OutputStream codecManifestOutput = codecManifestFile.openOutputStream()) {
-                    for (String codecName : codecNames) {
-                        codecManifestOutput.write((codecName + "\r\n").getBytes(StandardCharsets.UTF_8));
-                    }
-                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
-                            "create MapCodec manifest file success:" + codecManifestFile.toUri());
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "create MapCodec manifest file failed:" + e.getMessage());
-                }
-            } catch (IOException e) {
-                e.printStackTrace();
-                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "create MapCodec manifest file failed:" + e.getMessage());
+            writeResource("META-INF/" + MapCodecRegister.class.getName(), codecNames);
+            if (indexName != null) {
+                writeResource("META-INF/services/" + CodecIndex.class.getName(), Collections.singletonList(indexName.reflectionName()));
             }
         }
 
@@ -74,145 +79,21 @@ public class MapCodecProcessor extends AbstractProcessor {
         }
     }
 
-    private static final Set<String> CAST_TYPE_SET = new HashSet<String>() {{
-        add(Byte.class.getName());
-        add(Character.class.getName());
-        add(Short.class.getName());
-        add(Integer.class.getName());
-        add(Long.class.getName());
-        add(Float.class.getName());
-        add(Double.class.getName());
-        add(Date.class.getName());
-        add(Boolean.class.getName());
-    }};
-
     private void generateFile(TypeElement element) {
-        String clazzName = element.getQualifiedName().toString();
-        TypeMirror typeMirror = element.asType();
-        TypeName typeName = TypeName.get(typeMirror);
-        int lastIndex = clazzName.lastIndexOf('.');
-        String _package = clazzName.substring(0, lastIndex);
-        String _entity = clazzName.substring(lastIndex + 1);
-        String _codec = _entity + "_MapCodec";
+        ClassName codecClass = codecClassName(processingEnv.getElementUtils(), element);
+        String _package = codecClass.packageName();
+        String _codec = codecClass.simpleName();
         try {
-            MethodSpec.Builder codeBuild = MethodSpec.methodBuilder("code")
-                    .addModifiers(Modifier.PUBLIC)
-                    .addParameter(ParameterSpec.builder(typeName, "entity").build())
-                    .returns(ParameterizedTypeName.get(Map.class, String.class, Object.class))
-                    .addStatement("$T map = new $T<>()",
-                            ParameterizedTypeName.get(Map.class, String.class, Object.class),
-                            HashMap.class);
-
-            MethodSpec.Builder decodeBuild = MethodSpec.methodBuilder("decode")
-                    .addModifiers(Modifier.PUBLIC)
-                    .addParameter(ParameterSpec
-                            .builder(ParameterizedTypeName
-                                    .get(Map.class, String.class, Object.class), "map")
-                            .build())
-                    .returns(typeName)
-                    .addStatement("$T entity = new $T()", typeMirror, typeMirror);
-
-            MethodSpec.Builder filterBuild = MethodSpec.methodBuilder("filter")
-                    .addModifiers(Modifier.PUBLIC)
-                    .addParameter(ParameterSpec
-                            .builder(ParameterizedTypeName
-                                    .get(Map.class, String.class, Object.class), "map")
-                            .build())
-                    .returns(ParameterizedTypeName.get(Map.class, String.class, Object.class))
-                    .addStatement("$T result = new $T<>()",
-                            ParameterizedTypeName.get(Map.class, String.class, Object.class),
-                            HashMap.class);
+            TypeSpec codecType = new CodecGenerator(processingEnv, element, getProperties(element),
+                    Boolean.parseBoolean(processingEnv.getOptions().get(JFR_OPTION))).generate(_codec);
 
-            //获取所有公共方法，包括继承
-            List<ExecutableElement> methods = ExecutableUtils.getAllEnclosedExecutableElements(processingEnv.getElementUtils(), element);
-
-            Map<String, Element> allField = getAllField(element);
-            String dateClass = Date.class.getName();
-            //processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "process element field:" + allField);
-            for (ExecutableElement method : methods) {
-                String methodName = method.getSimpleName().toString();
-                Ignore ignore = method.getAnnotation(Ignore.class);
-                DateFormat dateFormat = method.getAnnotation(DateFormat.class);
-                if (ignore == null) {
-                    boolean isGetter = isGetterMethod(method);
-                    boolean isSetter = isSetterMethod(method);
-                    if (!isGetter && !isSetter) {
-                        continue;
-                    }
-                    String propertyName = getPropertyName(method);
-                    Element field = allField.get(propertyName);
-                    if (field != null) {
-                        ignore = field.getAnnotation(Ignore.class);
-                        if (ignore != null) {
-                            continue;
-                        }
-                        if (dateFormat == null) {
-                            dateFormat = field.getAnnotation(DateFormat.class);
-                        }
-                    }
-                    //processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "process method:" + methodName + ",return type:" + method.getReturnType().toString());
-                    if (isGetter) {
-                        boolean isPrimitive = method.getReturnType() instanceof PrimitiveType;
-                        //非基本类型进行判空
-                        if (!isPrimitive) {
-                            codeBuild.beginControlFlow("if(entity.$L()!=null)", methodName);
-                        }
-                        if (dateFormat != null && dateClass.equals(method.getReturnType().toString())) {
-                            if (dateFormat.timestamp()) {
-                                codeBuild.addStatement("map.put($S, entity.$L().getTime())", propertyName, methodName);
-                            } else {
-                                String formatName = propertyName + "Formatter";
-                                codeBuild.addStatement("$T $N=new $T($S)", SimpleDateFormat.class, formatName, SimpleDateFormat.class, dateFormat.pattern());
-                                codeBuild.addStatement("map.put($S, $N.format(entity.$L()))", propertyName, formatName, methodName);
-                            }
-                        } else {
-                            codeBuild.addStatement("map.put($S, entity.$L())", propertyName, methodName);
-                        }
-                        if (!isPrimitive) {
-                            codeBuild.endControlFlow();
-                        }
-
-                        filterBuild.beginControlFlow("if(map.get($S)!=null)", propertyName);
-                        filterBuild.addStatement("result.put($S, map.get($S))", propertyName, propertyName);
-                        filterBuild.endControlFlow();
-                    } else if (isSetter) {
-                        decodeBuild.beginControlFlow("if(map.get($S)!=null)", propertyName);
-                        // 需要增加type强转
-                        TypeMirror propertyType = method.getParameters().get(0).asType();
-                        if (propertyType instanceof PrimitiveType) {
-                            propertyType = processingEnv.getTypeUtils().boxedClass((PrimitiveType) propertyType).asType();
-                        }
-                        String[] arr = propertyType.toString().split("\\.");
-                        String tp = arr[arr.length - 1];
-                        if (CAST_TYPE_SET.contains(propertyType.toString())) {
-                            decodeBuild.addStatement("entity.$L($T.castTo$L(map.get($S)))",
-                                    methodName, TypeUtils.class, tp, propertyName);
-                        } else {
-                            decodeBuild.addStatement("entity.$L(($T) map.get($S))",
-                                    methodName, method.getParameters().get(0).asType(), propertyName);
-                        }
-                        decodeBuild.endControlFlow();
-                    }
-                }
-            }
-            codeBuild.addStatement("return map");
-            decodeBuild.addStatement("return entity");
-            filterBuild.addStatement("return result");
-
-            TypeSpec helloWorld = TypeSpec.classBuilder(_codec)
-                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                    .addSuperinterface(ParameterizedTypeName.get(
-                            ClassName.get(IMapCodec.class), typeName))
-                    .addMethod(codeBuild.build())
-                    .addMethod(decodeBuild.build())
-                    .addMethod(filterBuild.build())
-                    .build();
-
-            JavaFile javaFile = JavaFile.builder(_package, helloWorld)
+            JavaFile javaFile = JavaFile.builder(_package, codecType)
                     .build();
             //生成文件
             javaFile.writeTo(processingEnv.getFiler());
-            codecNames.add(_package + "." + _codec);
+            String binaryName = processingEnv.getElementUtils().getBinaryName(element).toString();
+            codecNames.add(binaryName + "=" + _package + "." + _codec);
+            indexGenerator.add(binaryName, ClassName.get(element), isPublic(element), codecClass);
             processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "process codec success:" + _codec, element);
         } catch (Exception e) {
             e.printStackTrace();
@@ -220,6 +101,119 @@ public class MapCodecProcessor extends AbstractProcessor {
         }
     }
 
+    private void writeResource(String name, List<String> lines) {
+        try {
+            FileObject resourceFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", name);
+            try (OutputStream output = resourceFile.openOutputStream()) {
+                for (String line : lines) {
+                    output.write((line + "\r\n").getBytes(StandardCharsets.UTF_8));
+                }
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "create MapCodec manifest file success:" + resourceFile.toUri());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "create MapCodec manifest file failed:" + e.getMessage());
+        }
+    }
+
+    private void generateIndex() {
+        String option = processingEnv.getOptions().get(INDEX_OPTION);
+        indexName = option != null ? ClassName.bestGuess(option) : indexGenerator.defaultName();
+        try {
+            JavaFile.builder(indexName.packageName(), indexGenerator.generate(indexName))
+                    .build()
+                    .writeTo(processingEnv.getFiler());
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "create MapCodec index success:" + indexName);
+        } catch (Exception e) {
+            e.printStackTrace();
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "create MapCodec index failed:" + e.getMessage());
+        }
+    }
+
+    /**
+     * @return 类及所有外部类均为public
+     */
+    private static boolean isPublic(TypeElement element) {
+        for (Element e = element; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (!e.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 合并getter和setter得到属性列表，按方法声明顺序分配ordinal
+     *
+     * @param element javabean
+     * @return 属性列表
+     */
+    private List<CodecProperty> getProperties(TypeElement element) {
+        //获取所有公共方法，包括继承
+        List<ExecutableElement> methods = ExecutableUtils.getAllEnclosedExecutableElements(processingEnv.getElementUtils(), element);
+
+        Map<String, Element> allField = getAllField(element);
+        Map<String, CodecProperty> properties = new LinkedHashMap<>();
+        //processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "process element field:" + allField);
+        for (ExecutableElement method : methods) {
+            if (method.getAnnotation(Ignore.class) != null) {
+                continue;
+            }
+            boolean isGetter = isGetterMethod(method);
+            boolean isSetter = isSetterMethod(method);
+            if (!isGetter && !isSetter) {
+                continue;
+            }
+            String propertyName = getPropertyName(method);
+            DateFormat dateFormat = method.getAnnotation(DateFormat.class);
+            EnumFormat enumFormat = method.getAnnotation(EnumFormat.class);
+            TypeMirror converter = getConverter(method);
+            Element field = allField.get(propertyName);
+            if (field != null) {
+                if (field.getAnnotation(Ignore.class) != null) {
+                    continue;
+                }
+                if (dateFormat == null) {
+                    dateFormat = field.getAnnotation(DateFormat.class);
+                }
+                if (enumFormat == null) {
+                    enumFormat = field.getAnnotation(EnumFormat.class);
+                }
+                if (converter == null) {
+                    converter = getConverter(field);
+                }
+            }
+            CodecProperty property = properties.get(propertyName);
+            if (property == null) {
+                property = new CodecProperty(propertyName, properties.size());
+                properties.put(propertyName, property);
+            }
+            property.setDateFormat(dateFormat);
+            property.setEnumFormat(enumFormat);
+            property.setConverter(converter);
+            //processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "process method:" + method.getSimpleName() + ",return type:" + method.getReturnType().toString());
+            if (isGetter) {
+                property.setGetter(method);
+            } else {
+                property.addSetter(method);
+            }
+        }
+        return new ArrayList<>(properties.values());
+    }
+
+    /**
+     * javabean对应的codec类名，内部类以外部类名为前缀
+     *
+     * @param elementUtils element helper
+     * @param element      javabean
+     * @return codec类名
+     */
+    static ClassName codecClassName(Elements elementUtils, TypeElement element) {
+        String packageName = elementUtils.getPackageOf(element).getQualifiedName().toString();
+        return ClassName.get(packageName, String.join("_", ClassName.get(element).simpleNames()) + "_MapCodec");
+    }
+
     public Map<String, Element> getAllField(TypeElement element) {
         Map<String, Element> fieldMap = new HashMap<>();
         TypeElement superClass = element;
@@ -295,6 +289,26 @@ public class MapCodecProcessor extends AbstractProcessor {
         return decapitalize(methodName.substring(methodName.startsWith("is") ? 2 : 3));
     }
 
+    /**
+     * 读取@MapConverter指定的转换器类型，注解的Class值在编译时无法直接获取
+     *
+     * @param element 字段、方法或类
+     * @return 未注解时返回null
+     */
+    static TypeMirror getConverter(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(MapConverter.class.getName())) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return (TypeMirror) entry.getValue().getValue();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * Helper method, to obtain the type.
      *